@@ -0,0 +1,114 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of booking attempts rejected as conflicts, the path that used to write a log line per request.
+ * <p>
+ * The two changes are measured apart. {@code appender} writes through a synchronous file appender or behind an
+ * AsyncAppender as in logback-spring.xml. {@code conflicts} logs every conflict, at DEBUG, or the shipped one per
+ * second at INFO. {@code sync}/{@code every} is what the service did before either change and
+ * {@code async}/{@code sampled} is the shipped setup. Repositories are stubbed, so the differences are the cost
+ * of logging rather than of the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class BookingLoggingBenchmark {
+
+    @Param({"sync", "async"})
+    private String appender;
+
+    @Param({"every", "sampled"})
+    private String conflicts;
+
+    private MeetingService meetingService;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Path logFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("booking-logging", ".log");
+        configureLogging();
+
+        Employee employee = new Employee("Employee 1");
+        employee.setId(1L);
+        startTime = LocalDateTime.of(2030, 1, 7, 9, 0);
+        endTime = startTime.plusHours(1);
+        Meeting existing = new Meeting(startTime.plusMinutes(30), endTime.plusMinutes(30), employee, "Existing");
+        existing.setId(100L);
+        meetingService = SyntheticCalendars.conflictingBookingService(employee, List.of(existing));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ((LoggerContext) LoggerFactory.getILoggerFactory()).stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public Object conflictingBooking() {
+        try {
+            return meetingService.bookMeeting(1L, startTime, endTime, "Clash");
+        } catch (MeetingConflictException e) {
+            return e;
+        }
+    }
+
+    // Replaces whatever configuration logback found with a single file appender, wrapped as in logback-spring.xml if async
+    private void configureLogging() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %level [%thread] %logger{40} %msg%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> root = file;
+        if (appender.equals("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setNeverBlock(true);
+            async.addAppender(file);
+            async.start();
+            root = async;
+        }
+
+        ch.qos.logback.classic.Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(ch.qos.logback.classic.Level.INFO);
+        rootLogger.addAppender(root);
+        // At DEBUG the service logs every conflict instead of a sample
+        context.getLogger(MeetingService.class).setLevel(conflicts.equals("sampled")
+                ? ch.qos.logback.classic.Level.INFO : ch.qos.logback.classic.Level.DEBUG);
+    }
+}
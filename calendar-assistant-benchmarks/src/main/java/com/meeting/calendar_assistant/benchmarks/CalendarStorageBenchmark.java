@@ -0,0 +1,182 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Footprint of a resident index of every employee's meetings, and the cost of probing it for a conflict.
+ * <p>
+ * {@code entity} keeps the meetings as loaded {@link Meeting} entities per employee, each with its own times and
+ * title as JPA would materialise them, and probes by walking the list. {@code heap} and {@code off-heap} are the
+ * {@link CalendarIndex} with {@code calendar.cache.storage} set accordingly. Besides the probe latency, every
+ * iteration reports the heap retained after a full collection, the direct memory in use and how long that full
+ * collection paused the JVM, which grows with the number of live objects rather than with their size.
+ * <p>
+ * {@code bookAndCancel} is the update-heavy counterpart: it adds a meeting at a random time to a cached calendar
+ * and removes it again, which for {@code off-heap} exercises the copies into new direct buffers and the in-place
+ * appends.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class CalendarStorageBenchmark {
+
+    private static final int PROBES = 1024;
+
+    @Param({"1000"})
+    private int employees;
+
+    @Param({"100", "1000"})
+    private int meetingsPerEmployee;
+
+    @Param({"entity", "heap", "off-heap"})
+    private String storage;
+
+    private Map<Long, List<Meeting>> entities;
+    private CalendarIndex calendarIndex;
+    private long[] probeEmployees;
+    private LocalDateTime[] probeStarts;
+    private Meeting[] updates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime origin = LocalDateTime.of(2030, 1, 7, 0, 0);
+        List<Meeting> meetings = SyntheticCalendars.generate(employees, meetingsPerEmployee, origin, 42);
+        if (storage.equals("entity")) {
+            entities = new HashMap<>();
+            for (Meeting meeting : meetings) {
+                entities.computeIfAbsent(meeting.getEmployee().getId(), id -> new ArrayList<>()).add(materialise(meeting));
+            }
+        } else {
+            calendarIndex = SyntheticCalendars.index(meetings, storage);
+        }
+
+        Random random = new Random(7);
+        int days = SyntheticCalendars.daysSpanned(meetingsPerEmployee);
+        probeEmployees = new long[PROBES];
+        probeStarts = new LocalDateTime[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeEmployees[i] = 1 + random.nextInt(employees);
+            probeStarts[i] = origin.plusDays(random.nextInt(days)).plusMinutes(8 * 60 + 15L * random.nextInt(40));
+        }
+        // One per probe, with IDs past those of the generated meetings
+        updates = new Meeting[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            Employee employee = new Employee("Employee " + probeEmployees[i]);
+            employee.setId(probeEmployees[i]);
+            updates[i] = new Meeting(probeStarts[i], probeStarts[i].plusMinutes(30), employee, "Update");
+            updates[i].setId((employees + 1L) * meetingsPerEmployee + i);
+        }
+    }
+
+    // The footprint state is only there to have its counters taken before each iteration
+    @Benchmark
+    public boolean conflictProbe(Footprint footprint) {
+        int probe = next++ & (PROBES - 1);
+        LocalDateTime start = probeStarts[probe];
+        LocalDateTime end = start.plusMinutes(30);
+        if (entities == null) {
+            return calendarIndex.hasOverlap(probeEmployees[probe], start, end);
+        }
+        for (Meeting meeting : entities.get(probeEmployees[probe])) {
+            if (meeting.getStartTime().isBefore(end) && meeting.getEndTime().isAfter(start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public int bookAndCancel(Footprint footprint) {
+        Meeting update = updates[next++ & (PROBES - 1)];
+        if (entities == null) {
+            calendarIndex.add(update);
+            calendarIndex.remove(update);
+            return 0;
+        }
+        List<Meeting> employeeMeetings = entities.get(update.getEmployee().getId());
+        employeeMeetings.add(materialise(update));
+        employeeMeetings.remove(employeeMeetings.size() - 1);
+        return employeeMeetings.size();
+    }
+
+    /**
+     * Heap and GC figures reported next to the probe latency, taken before each iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+
+        private double retainedHeapMb;
+        private double directMemoryMb;
+        private double fullGcPauseMs;
+
+        // Event counters are summed over the iterations, so each one reports its share of the average
+        @Setup(Level.Iteration)
+        public void measure(IterationParams iteration) {
+            double share = 1.0 / iteration.getCount();
+            System.gc();
+            long collectionTime = totalCollectionTime();
+            System.gc();
+            fullGcPauseMs = share * (totalCollectionTime() - collectionTime);
+            retainedHeapMb = share * (ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() >> 20);
+            directMemoryMb = 0;
+            for (BufferPoolMXBean pool : ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class)) {
+                if (pool.getName().equals("direct")) {
+                    directMemoryMb = share * (pool.getMemoryUsed() >> 20);
+                }
+            }
+        }
+
+        // JMH zeroes public counter fields before each iteration, so the figures are reported through methods
+        public double retainedHeapMb() {
+            return retainedHeapMb;
+        }
+
+        public double directMemoryMb() {
+            return directMemoryMb;
+        }
+
+        public double fullGcPauseMs() {
+            return fullGcPauseMs;
+        }
+
+        private static long totalCollectionTime() {
+            long total = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                total += Math.max(0, collector.getCollectionTime());
+            }
+            return total;
+        }
+    }
+
+    // A copy holding its own times and title, like an entity read from the database
+    private static Meeting materialise(Meeting meeting) {
+        Meeting copy = new Meeting(copyOf(meeting.getStartTime()), copyOf(meeting.getEndTime()), meeting.getEmployee(),
+                new String(meeting.getTitle()));
+        copy.setId(meeting.getId());
+        return copy;
+    }
+
+    private static LocalDateTime copyOf(LocalDateTime time) {
+        return LocalDateTime.of(time.getYear(), time.getMonthValue(), time.getDayOfMonth(), time.getHour(), time.getMinute());
+    }
+}
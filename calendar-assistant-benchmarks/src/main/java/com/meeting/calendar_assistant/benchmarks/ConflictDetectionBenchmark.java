@@ -0,0 +1,69 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import com.meeting.calendar_assistant.model.TimeWindow;
+import com.meeting.calendar_assistant.model.WindowConflicts;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conflict detection through {@link MeetingService}: a single candidate window and a batch of windows,
+ * checked against every participant's indexed calendar.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class ConflictDetectionBenchmark {
+
+    private static final int WINDOWS = 64;
+    private static final int BATCH_SIZE = 8;
+
+    @Param({"2", "100", "1000"})
+    private int participants;
+
+    @Param({"10", "1000", "10000"})
+    private int meetingsPerEmployee;
+
+    private MeetingService meetingService;
+    private List<Long> participantIds;
+    private List<TimeWindow> windows;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime origin = LocalDateTime.of(2030, 1, 7, 0, 0);
+        meetingService = SyntheticCalendars.meetingService(
+                SyntheticCalendars.index(SyntheticCalendars.generate(participants, meetingsPerEmployee, origin, 42)),
+                null);
+        participantIds = SyntheticCalendars.participantIds(participants);
+
+        // Hour-long candidates on the 15 minute grid, spread over the whole calendar
+        Random random = new Random(7);
+        int days = SyntheticCalendars.daysSpanned(meetingsPerEmployee);
+        windows = new ArrayList<>(WINDOWS);
+        for (int i = 0; i < WINDOWS; i++) {
+            LocalDateTime start = origin.plusDays(random.nextInt(days)).plusMinutes(8 * 60 + 15L * random.nextInt(40));
+            windows.add(new TimeWindow(start, start.plusHours(1)));
+        }
+    }
+
+    @Benchmark
+    public List<Long> conflictedParticipants() {
+        TimeWindow window = windows.get(next++ & (WINDOWS - 1));
+        return meetingService.findConflictedParticipants(participantIds, window.getStartTime(), window.getEndTime());
+    }
+
+    @Benchmark
+    public List<WindowConflicts> conflictsForWindowBatch() {
+        int from = (next++ & (WINDOWS / BATCH_SIZE - 1)) * BATCH_SIZE;
+        return meetingService.findConflicts(participantIds, windows.subList(from, from + BATCH_SIZE));
+    }
+}
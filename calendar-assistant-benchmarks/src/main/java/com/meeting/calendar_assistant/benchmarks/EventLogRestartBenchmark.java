@@ -0,0 +1,81 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.service.BookingEventLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Restart time of the event-log persistence engine: recovering every calendar by replaying the whole log,
+ * versus memory-mapping a snapshot and replaying only the 1% of bookings made after it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class EventLogRestartBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"1000"})
+    private int employees;
+
+    @Param({"100", "1000"})
+    private int meetingsPerEmployee;
+
+    @Param({"log-replay", "snapshot-and-tail"})
+    private String recovery;
+
+    private Path directory;
+    private List<Meeting> meetings;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("booking-log");
+        meetings = SyntheticCalendars.generate(employees, meetingsPerEmployee,
+                LocalDateTime.of(2030, 1, 7, 0, 0), 42);
+        int tail = recovery.equals("snapshot-and-tail") ? meetings.size() / 100 : meetings.size();
+
+        BookingEventLog log = SyntheticCalendars.eventLog(directory, meetings);
+        log.start();
+        book(log, meetings.subList(0, meetings.size() - tail));
+        if (tail < meetings.size()) {
+            log.snapshot();
+        }
+        book(log, meetings.subList(meetings.size() - tail, meetings.size()));
+        log.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public BookingEventLog restart() throws Exception {
+        BookingEventLog log = SyntheticCalendars.eventLog(directory, meetings);
+        log.start();
+        log.close();
+        return log;
+    }
+
+    private static void book(BookingEventLog log, List<Meeting> meetings) {
+        for (int from = 0; from < meetings.size(); from += BATCH_SIZE) {
+            log.booked(meetings.subList(from, Math.min(meetings.size(), from + BATCH_SIZE))).join();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The two-employee, single-day free slot search ({@code findAvailableSlots}/{@code addFreeSlots}) over
+ * calendars held in the index. Meetings are placed at random minutes of today and may overlap, so large
+ * sizes mostly exercise the merge loop.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class LegacyFreeSlotsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int meetingsPerEmployee;
+
+    @Param({"30", "60"})
+    private int durationInMinutes;
+
+    private MeetingService meetingService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
+        Random random = new Random(42);
+        List<Meeting> meetings = new ArrayList<>(2 * meetingsPerEmployee);
+        for (long employeeId = 1; employeeId <= 2; employeeId++) {
+            Employee employee = new Employee("Employee " + employeeId);
+            employee.setId(employeeId);
+            for (int i = 0; i < meetingsPerEmployee; i++) {
+                LocalDateTime start = startOfDay.plusMinutes(random.nextInt(23 * 60));
+                Meeting meeting = new Meeting(start, start.plusMinutes(5 + random.nextInt(56)), employee, "Synthetic");
+                meeting.setId(employeeId * meetingsPerEmployee + i);
+                meetings.add(meeting);
+            }
+        }
+
+        meetingService = SyntheticCalendars.meetingService(SyntheticCalendars.index(meetings), null);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> freeSlotsForTwoEmployees() {
+        return meetingService.findFreeSlots(1L, 2L, durationInMinutes);
+    }
+}
@@ -0,0 +1,62 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import com.meeting.calendar_assistant.service.BitsetFreeSlotFinder;
+import com.meeting.calendar_assistant.service.FreeSlotEngine;
+import com.meeting.calendar_assistant.service.FreeSlotFinder;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-participant free slot search over a one week horizon in the middle of the synthetic calendars,
+ * once per free slot engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SlotSearchBenchmark {
+
+    @Param({"sweep", "bitset"})
+    private String engine;
+
+    @Param({"2", "100", "1000"})
+    private int participants;
+
+    @Param({"10", "1000", "10000"})
+    private int meetingsPerEmployee;
+
+    @Param({"30"})
+    private int durationInMinutes;
+
+    @Param({"30"})
+    private int granularityInMinutes;
+
+    private MeetingService meetingService;
+    private List<Long> participantIds;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime origin = LocalDateTime.of(2030, 1, 7, 0, 0);
+        FreeSlotEngine freeSlotEngine = engine.equals("bitset") ? new BitsetFreeSlotFinder(15) : new FreeSlotFinder();
+        meetingService = SyntheticCalendars.meetingService(
+                SyntheticCalendars.index(SyntheticCalendars.generate(participants, meetingsPerEmployee, origin, 42)),
+                freeSlotEngine);
+        participantIds = SyntheticCalendars.participantIds(participants);
+
+        from = origin.plusDays(SyntheticCalendars.daysSpanned(meetingsPerEmployee) / 2);
+        to = from.plusWeeks(1);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> freeSlotsForParticipants() {
+        return meetingService.findFreeSlots(participantIds, from, to, durationInMinutes, granularityInMinutes);
+    }
+}
@@ -0,0 +1,201 @@
+package com.meeting.calendar_assistant.benchmarks;
+
+import com.meeting.calendar_assistant.model.BusyInterval;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
+import com.meeting.calendar_assistant.service.BookingEventLog;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.CalendarInvalidationBus;
+import com.meeting.calendar_assistant.service.EmployeeDirectory;
+import com.meeting.calendar_assistant.service.EmployeeLocks;
+import com.meeting.calendar_assistant.service.FreeSlotEngine;
+import com.meeting.calendar_assistant.service.MeetingService;
+import com.meeting.calendar_assistant.service.PessimisticBookingExecutor;
+import com.meeting.calendar_assistant.service.SchedulingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Deterministic synthetic calendars and a hand-wired {@link MeetingService} for the benchmarks.
+ * <p>
+ * Every employee gets {@link #MEETINGS_PER_DAY} non-overlapping meetings per working day, one in each hour
+ * from 08:00, with a random 0/15 minute offset and a 15-45 minute length, so the hours after 16:00 and the
+ * gaps between meetings stay free. Times are drawn from a shared 15 minute grid to keep large calendars cheap.
+ */
+final class SyntheticCalendars {
+
+    static final int MEETINGS_PER_DAY = 8;
+
+    private static final int CELL_MINUTES = 15;
+    private static final int CELLS_PER_DAY = 24 * 60 / CELL_MINUTES;
+    private static final int FIRST_HOUR = 8;
+
+    private SyntheticCalendars() {
+    }
+
+    // Number of days covered by a calendar of the given size
+    static int daysSpanned(int meetingsPerEmployee) {
+        return (meetingsPerEmployee + MEETINGS_PER_DAY - 1) / MEETINGS_PER_DAY;
+    }
+
+    // Meetings for employees 1..participants starting at the given midnight
+    static List<Meeting> generate(int participants, int meetingsPerEmployee, LocalDateTime origin, long seed) {
+        Random random = new Random(seed);
+        LocalDateTime[] grid = new LocalDateTime[(daysSpanned(meetingsPerEmployee) + 1) * CELLS_PER_DAY];
+        List<Meeting> meetings = new ArrayList<>(participants * meetingsPerEmployee);
+
+        for (long employeeId = 1; employeeId <= participants; employeeId++) {
+            Employee employee = new Employee("Employee " + employeeId);
+            employee.setId(employeeId);
+            for (int i = 0; i < meetingsPerEmployee; i++) {
+                int day = i / MEETINGS_PER_DAY;
+                int hour = FIRST_HOUR + i % MEETINGS_PER_DAY;
+                int startCell = day * CELLS_PER_DAY + hour * 4 + random.nextInt(2);
+                int endCell = startCell + 1 + random.nextInt(3);
+                Meeting meeting = new Meeting(at(grid, origin, startCell), at(grid, origin, endCell), employee, "Synthetic");
+                meeting.setId(employeeId * meetingsPerEmployee + i);
+                meetings.add(meeting);
+            }
+        }
+        return meetings;
+    }
+
+    static CalendarIndex index(List<Meeting> meetings) {
+        return index(meetings, "heap");
+    }
+
+    // An index keeping its calendars in the given calendar.cache.storage, heap or off-heap, with every
+    // participant's calendar loaded from stub repositories holding the meetings
+    static CalendarIndex index(List<Meeting> meetings, String storage) {
+        Map<Long, List<BusyInterval>> intervals = new HashMap<>();
+        for (Meeting meeting : meetings) {
+            BusyInterval interval = busyInterval(meeting);
+            for (Long participantId : meeting.participantIds()) {
+                intervals.computeIfAbsent(participantId, id -> new ArrayList<>()).add(interval);
+            }
+        }
+
+        CalendarIndex calendarIndex = new CalendarIndex(10_000, Duration.ofMinutes(10), storage);
+        inject(calendarIndex, "meetingRepository", stub(MeetingRepository.class, Map.of(
+                "findBusyIntervalsByEmployee_Id", (Function<Object, Object>) employeeId -> intervals.getOrDefault(employeeId, List.of()),
+                "findAttendedBusyIntervals", List.of())));
+        inject(calendarIndex, "recurringMeetingRepository", stub(RecurringMeetingRepository.class,
+                Map.of("findWithSkippedOccurrencesByEmployeeId", List.of())));
+        intervals.keySet().forEach(calendarIndex::calendarOf);
+        return calendarIndex;
+    }
+
+    static List<Long> participantIds(int participants) {
+        List<Long> ids = new ArrayList<>(participants);
+        for (long id = 1; id <= participants; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    // A MeetingService wired without Spring; collaborators a benchmark does not touch stay null.
+    // Every participant should be in the index, so that no measured call pays for a calendar load.
+    static MeetingService meetingService(CalendarIndex calendarIndex, FreeSlotEngine freeSlotEngine) {
+        MeetingService meetingService = new MeetingService();
+        inject(meetingService, "calendarIndex", calendarIndex);
+        inject(meetingService, "freeSlotEngine", freeSlotEngine);
+        inject(meetingService, "schedulingMetrics", new SchedulingMetrics(new SimpleMeterRegistry()));
+        return meetingService;
+    }
+
+    // A MeetingService that books for one employee whose existing meetings all overlap the requested time,
+    // with the database replaced by stubs, so every booking attempt ends in a conflict
+    static MeetingService conflictingBookingService(Employee employee, List<Meeting> overlapping) {
+        EmployeeDirectory employeeDirectory = new EmployeeDirectory();
+        inject(employeeDirectory, "employeeRepository", stub(EmployeeRepository.class,
+                Map.of("existsById", true, "getReferenceById", employee)));
+
+        MeetingService meetingService = new MeetingService();
+        inject(meetingService, "employeeDirectory", employeeDirectory);
+        inject(meetingService, "meetingRepository", stub(MeetingRepository.class, Map.of("findOverlapping", overlapping)));
+        inject(meetingService, "recurringMeetingRepository", stub(RecurringMeetingRepository.class,
+                Map.of("findWithSkippedOccurrencesByEmployeeId", List.of())));
+        inject(meetingService, "calendarIndex", new CalendarIndex());
+        inject(meetingService, "bookingExecutor", new PessimisticBookingExecutor(new EmployeeLocks(256)));
+        inject(meetingService, "invalidationBus", (CalendarInvalidationBus) employeeId -> 0L);
+        inject(meetingService, "schedulingMetrics", new SchedulingMetrics(new SimpleMeterRegistry()));
+        // No alternative windows, so a rejection costs the check and the logging only
+        inject(meetingService, "conflictAlternatives", 0);
+        return meetingService;
+    }
+
+    // A booking event log in the given directory, seeded empty on first start, over a database holding the meetings
+    static BookingEventLog eventLog(Path directory, List<Meeting> meetings) {
+        long maxId = meetings.stream().mapToLong(Meeting::getId).max().orElse(0);
+        return new BookingEventLog(stub(MeetingRepository.class, Map.of(
+                "findAllOrganizedBusyIntervals", List.of(), "findAllAttendedBusyIntervals", List.of(),
+                "count", (long) meetings.size(), "findMaxId", maxId)), directory, "in-jvm", "jdbc:h2:file:./data/calendar",
+                Duration.ofSeconds(30));
+    }
+
+    // An implementation of the interface answering the named methods with fixed results, or with a function of the
+    // first argument
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, Map<String, Object> results) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            if (!results.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+            Object result = results.get(method.getName());
+            return result instanceof Function<?, ?> function ? ((Function<Object, Object>) function).apply(args[0]) : result;
+        }));
+    }
+
+    private static BusyInterval busyInterval(Meeting meeting) {
+        return new BusyInterval() {
+            public Long getId() {
+                return meeting.getId();
+            }
+
+            public LocalDateTime getStartTime() {
+                return meeting.getStartTime();
+            }
+
+            public LocalDateTime getEndTime() {
+                return meeting.getEndTime();
+            }
+        };
+    }
+
+    private static LocalDateTime at(LocalDateTime[] grid, LocalDateTime origin, int cell) {
+        LocalDateTime time = grid[cell];
+        if (time == null) {
+            time = origin.plusMinutes((long) cell * CELL_MINUTES);
+            grid[cell] = time;
+        }
+        return time;
+    }
+
+    private static void inject(Object target, String fieldName, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), fieldName);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -1,30 +1,67 @@
 package com.meeting.calendar_assistant.controller;
 
 import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.ConflictCheckRequest;
+import com.meeting.calendar_assistant.model.FreeSlotSearchRequest;
+import com.meeting.calendar_assistant.model.GroupMeetingRequest;
 import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingHistoryEntry;
 import com.meeting.calendar_assistant.model.MeetingRequest;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.model.RecurringMeetingRequest;
+import com.meeting.calendar_assistant.model.TimeWindow;
+import com.meeting.calendar_assistant.model.WindowConflicts;
+import com.meeting.calendar_assistant.service.MeetingArchiveService;
+import com.meeting.calendar_assistant.service.MeetingExportService;
+import com.meeting.calendar_assistant.service.MeetingImportService;
 import com.meeting.calendar_assistant.service.MeetingService;
-import org.junit.platform.commons.logging.Logger;
-import org.junit.platform.commons.logging.LoggerFactory;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthComponent;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/meetings")
 public class MeetingController {
 
     private static final Logger logger = LoggerFactory.getLogger(MeetingController.class);
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int DEFAULT_FREE_WINDOW_LIMIT = 50;
+
     @Autowired
     private MeetingService meetingService;
 
+    @Autowired
+    private MeetingImportService meetingImportService;
+
+    @Autowired
+    private MeetingExportService meetingExportService;
+
+    @Autowired
+    private MeetingArchiveService meetingArchiveService;
+
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    // A conflict is answered with the nearest free alternatives, see BookingConflict
     @PostMapping
-    public ResponseEntity<Meeting> bookMeeting(@RequestBody MeetingRequest meetingRequest) {
+    public ResponseEntity<?> bookMeeting(@RequestBody MeetingRequest meetingRequest) {
         try {
             // Extract parameters from the request body
             Long employeeId = meetingRequest.getEmployeeId();
@@ -43,14 +80,100 @@ public class MeetingController {
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(null); // Bad request for invalid arguments
         } catch (MeetingConflictException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT).body(null); // Conflict in booking
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getConflict()); // Conflict in booking
         } catch (Exception e) {
             // Log the exception and return a 500 status code
-            e.printStackTrace(); // Replace with a logger in a real application
+            logger.error("Booking failed for employee {}", meetingRequest.getEmployeeId(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
 
+    // Books one meeting for the organizer and every attendee, or rejects it for all of them
+    @PostMapping("/group")
+    public ResponseEntity<?> bookGroupMeeting(@RequestBody GroupMeetingRequest request) {
+        if (request.getEmployeeId() == null || request.getAttendeeIds() == null || request.getStartTime() == null
+                || request.getEndTime() == null || request.getTitle() == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        try {
+            Meeting meeting = meetingService.bookGroupMeeting(request.getEmployeeId(), request.getAttendeeIds(),
+                    request.getStartTime(), request.getEndTime(), request.getTitle());
+            return ResponseEntity.status(HttpStatus.CREATED).body(meeting);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        } catch (MeetingConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getConflict());
+        }
+    }
+
+    @PostMapping("/recurring")
+    public ResponseEntity<RecurringMeeting> bookRecurringMeeting(@RequestBody RecurringMeetingRequest request) {
+        if (request.getEmployeeId() == null || request.getStartTime() == null || request.getEndTime() == null
+                || request.getTitle() == null || request.getFrequency() == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        try {
+            RecurringMeeting series = meetingService.bookRecurringMeeting(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(series);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        } catch (MeetingConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        }
+    }
+
+    @DeleteMapping("/recurring/{seriesId}")
+    public ResponseEntity<Void> cancelRecurringMeeting(@PathVariable Long seriesId) {
+        meetingService.cancelRecurringMeeting(seriesId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Cancels the single occurrence starting at startTime
+    @DeleteMapping("/recurring/{seriesId}/occurrences")
+    public ResponseEntity<RecurringMeeting> skipOccurrence(@PathVariable Long seriesId, @RequestParam LocalDateTime startTime) {
+        try {
+            return ResponseEntity.ok(meetingService.skipOccurrence(seriesId, startTime));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    // Results are streamed back one line per input record while the import is still running
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    public void importMeetings(InputStream ndjson, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        meetingImportService.importMeetings(ndjson, response.getOutputStream());
+    }
+
+    @GetMapping("/export")
+    public void exportMeetings(@RequestParam LocalDateTime from,
+                               @RequestParam LocalDateTime to,
+                               @RequestParam(defaultValue = "NDJSON") MeetingExportService.Format format,
+                               HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(format == MeetingExportService.Format.CSV ? "text/csv" : NDJSON);
+        try {
+            meetingExportService.exportMeetings(from, to, format, response.getOutputStream());
+        } catch (IllegalArgumentException e) {
+            // Thrown before the first row, so nothing has been committed yet
+            response.reset();
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+        }
+    }
+
+    // An employee's meetings in [from, to) including archived ones, which no other endpoint reads
+    @GetMapping("/history")
+    public ResponseEntity<List<MeetingHistoryEntry>> findHistory(@RequestParam Long employeeId,
+                                                                 @RequestParam LocalDateTime from,
+                                                                 @RequestParam LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(meetingArchiveService.findHistory(employeeId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
     @GetMapping("/free-slots")
     public ResponseEntity<List<LocalDateTime>> findFreeSlots(
             @RequestParam Long employee1Id,
@@ -60,6 +183,60 @@ public class MeetingController {
         return ResponseEntity.ok(freeSlots);
     }
 
+    // Maximal free windows in [from, to) instead of enumerated starts. The range defaults to the rest of the day
+    // "from" falls on (default today); page with "from" set to the end of the last window.
+    @GetMapping(value = "/free-slots", params = "mode=windows")
+    public ResponseEntity<List<TimeWindow>> findFreeWindows(
+            @RequestParam Long employee1Id,
+            @RequestParam Long employee2Id,
+            @RequestParam int duration,
+            @RequestParam(defaultValue = "30") int step,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(required = false) LocalDateTime to,
+            @RequestParam(required = false) Integer limit) {
+        LocalDateTime rangeStart = from != null ? from : LocalDate.now().atStartOfDay();
+        LocalDateTime rangeEnd = to != null ? to : rangeStart.toLocalDate().plusDays(1).atStartOfDay();
+        try {
+            List<TimeWindow> freeWindows = meetingService.findFreeWindows(employee1Id, employee2Id, rangeStart, rangeEnd,
+                    duration, step, limit != null ? limit : DEFAULT_FREE_WINDOW_LIMIT);
+            return ResponseEntity.ok(freeWindows);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    @PostMapping("/free-slots/search")
+    public ResponseEntity<List<LocalDateTime>> searchFreeSlots(@RequestBody FreeSlotSearchRequest searchRequest) {
+        if (searchRequest.getParticipantIds() == null || searchRequest.getParticipantIds().isEmpty()
+                || searchRequest.getFrom() == null || searchRequest.getTo() == null) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        try {
+            List<LocalDateTime> freeSlots = meetingService.findFreeSlots(searchRequest.getParticipantIds(),
+                    searchRequest.getFrom(), searchRequest.getTo(),
+                    searchRequest.getDurationInMinutes(), searchRequest.getGranularityInMinutes());
+            return ResponseEntity.ok(freeSlots);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    // The first "limit" slots from "from" (default now) onwards; only as many days are searched as needed
+    @GetMapping("/free-slots/next")
+    public ResponseEntity<List<LocalDateTime>> findNextSlots(
+            @RequestParam List<Long> participantIds,
+            @RequestParam int duration,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(defaultValue = "3") int limit) {
+        try {
+            List<LocalDateTime> nextSlots = meetingService.findNextSlots(participantIds, duration,
+                    from != null ? from : LocalDateTime.now(), limit).toList();
+            return ResponseEntity.ok(nextSlots);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
     @PostMapping("/conflicts")
     public ResponseEntity<List<Long>> findConflicts(
             @RequestBody List<Long> participantIds,
@@ -69,8 +246,33 @@ public class MeetingController {
         return ResponseEntity.ok(conflicts);
     }
 
-    @GetMapping("/health") // Health check endpoint
-    public ResponseEntity<String> healthCheck() {
-        return ResponseEntity.ok("Service is up and running!");
+    @PostMapping("/conflicts/batch")
+    public ResponseEntity<List<WindowConflicts>> findConflictsBatch(@RequestBody ConflictCheckRequest conflictCheckRequest) {
+        List<Long> participantIds = conflictCheckRequest.getParticipantIds();
+        if (participantIds == null || conflictCheckRequest.getWindows() == null
+                || conflictCheckRequest.getWindows().stream().anyMatch(window ->
+                        window == null || window.getStartTime() == null || window.getEndTime() == null)) {
+            return ResponseEntity.badRequest().body(null);
+        }
+        try {
+            return ResponseEntity.ok(meetingService.findConflicts(participantIds, conflictCheckRequest.getWindows()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    @DeleteMapping("/{meetingId}")
+    public ResponseEntity<Void> cancelMeeting(@PathVariable Long meetingId) {
+        meetingService.cancelMeeting(meetingId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // Overall status of /actuator/health, kept for clients of the old endpoint; 503 unless every component is up.
+    // The endpoint bean reports every detail to a direct caller, so only the status is passed on.
+    @GetMapping("/health")
+    public ResponseEntity<HealthComponent> healthCheck() {
+        Status health = healthEndpoint.health().getStatus();
+        HttpStatus status = Status.UP.equals(health) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(Health.status(health).build());
     }
 }
@@ -0,0 +1,93 @@
+package com.meeting.calendar_assistant.controller;
+
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.FreeSlotSearchRequest;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingRequest;
+import com.meeting.calendar_assistant.service.ReactiveMeetingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The booking, free-slot and conflict endpoints of {@link MeetingController} on WebFlux, selected with the reactive
+ * profile. Slot lists are streamed as NDJSON or server-sent events when the client asks for them, and as a JSON
+ * array otherwise.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/meetings")
+public class ReactiveMeetingController {
+
+    @Autowired
+    private ReactiveMeetingService reactiveMeetingService;
+
+    @PostMapping
+    public Mono<ResponseEntity<Meeting>> bookMeeting(@RequestBody MeetingRequest meetingRequest) {
+        if (meetingRequest.getEmployeeId() == null || meetingRequest.getStartTime() == null
+                || meetingRequest.getEndTime() == null || meetingRequest.getTitle() == null) {
+            return Mono.just(ResponseEntity.badRequest().body(null));
+        }
+        return reactiveMeetingService.bookMeeting(meetingRequest.getEmployeeId(), meetingRequest.getStartTime(),
+                        meetingRequest.getEndTime(), meetingRequest.getTitle())
+                .map(meeting -> ResponseEntity.status(HttpStatus.CREATED).body(meeting))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(null)))
+                .onErrorResume(MeetingConflictException.class, e -> Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(null)));
+    }
+
+    @GetMapping(value = "/free-slots", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<LocalDateTime> findFreeSlots(
+            @RequestParam Long employee1Id,
+            @RequestParam Long employee2Id,
+            @RequestParam int duration) {
+        return reactiveMeetingService.findFreeSlots(employee1Id, employee2Id, duration);
+    }
+
+    @PostMapping(value = "/free-slots/search", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Flux<LocalDateTime>> searchFreeSlots(@RequestBody FreeSlotSearchRequest searchRequest) {
+        if (searchRequest.getParticipantIds() == null || searchRequest.getParticipantIds().isEmpty()
+                || searchRequest.getFrom() == null || searchRequest.getTo() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            return ResponseEntity.ok(reactiveMeetingService.findFreeSlots(searchRequest.getParticipantIds(),
+                    searchRequest.getFrom(), searchRequest.getTo(),
+                    searchRequest.getDurationInMinutes(), searchRequest.getGranularityInMinutes()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping(value = "/free-slots/next", produces = {
+            MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Flux<LocalDateTime>> findNextSlots(
+            @RequestParam List<Long> participantIds,
+            @RequestParam int duration,
+            @RequestParam(required = false) LocalDateTime from,
+            @RequestParam(defaultValue = "3") int limit) {
+        try {
+            return ResponseEntity.ok(reactiveMeetingService.findNextSlots(participantIds, duration,
+                    from != null ? from : LocalDateTime.now(), limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/conflicts")
+    public Flux<Long> findConflicts(
+            @RequestBody List<Long> participantIds,
+            @RequestParam LocalDateTime startTime,
+            @RequestParam LocalDateTime endTime) {
+        return reactiveMeetingService.findConflictedParticipants(participantIds, startTime, endTime);
+    }
+}
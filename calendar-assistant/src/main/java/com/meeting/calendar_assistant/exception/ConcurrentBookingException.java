@@ -0,0 +1,9 @@
+package com.meeting.calendar_assistant.exception;
+
+// A booking given up because other bookings kept changing the same calendars, not because the time was taken
+public class ConcurrentBookingException extends MeetingConflictException {
+
+    public ConcurrentBookingException(String message) {
+        super(message);
+    }
+}
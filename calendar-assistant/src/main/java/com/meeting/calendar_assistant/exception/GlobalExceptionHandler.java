@@ -12,16 +12,22 @@ public class GlobalExceptionHandler {
 
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-    // Handle custom exceptions
+    // Handle custom exceptions; conflicts and unknown IDs are client outcomes, already sampled or counted by the services
     @ExceptionHandler(MeetingConflictException.class)
     public ResponseEntity<String> handleMeetingConflictException(MeetingConflictException ex) {
-        logger.error("Meeting conflict error: {}", ex.getMessage());
+        logger.debug("Meeting conflict error: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.CONFLICT).body("Conflict: " + ex.getMessage());
     }
 
     @ExceptionHandler(EmployeeNotFoundException.class)
     public ResponseEntity<String> handleEmployeeNotFoundException(EmployeeNotFoundException ex) {
-        logger.error("Employee not found error: {}", ex.getMessage());
+        logger.debug("Employee not found error: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: " + ex.getMessage());
+    }
+
+    @ExceptionHandler(MeetingNotFoundException.class)
+    public ResponseEntity<String> handleMeetingNotFoundException(MeetingNotFoundException ex) {
+        logger.debug("Meeting not found error: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: " + ex.getMessage());
     }
 
@@ -1,7 +1,22 @@
 package com.meeting.calendar_assistant.exception;
 
+import com.meeting.calendar_assistant.model.BookingConflict;
+
 public class MeetingConflictException extends RuntimeException {
+
+    // Alternatives to offer the client, when the rejecting path computed them
+    private final BookingConflict conflict;
+
     public MeetingConflictException(String message) {
+        this(message, null);
+    }
+
+    public MeetingConflictException(String message, BookingConflict conflict) {
         super(message);
+        this.conflict = conflict;
+    }
+
+    public BookingConflict getConflict() {
+        return conflict;
     }
 }
@@ -0,0 +1,7 @@
+package com.meeting.calendar_assistant.exception;
+
+public class MeetingNotFoundException extends RuntimeException {
+    public MeetingNotFoundException(String message) {
+        super(message);
+    }
+}
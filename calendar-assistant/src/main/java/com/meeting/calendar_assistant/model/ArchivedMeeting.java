@@ -0,0 +1,67 @@
+package com.meeting.calendar_assistant.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A meeting that ended long enough ago to be moved out of the {@code meeting} table, see MeetingArchiveService.
+ * Participants are kept as plain IDs so the archive does not hold references into the hot tables.
+ */
+@Entity
+@Table(name = "meeting_archive", indexes = {
+        @Index(name = "idx_meeting_archive_employee_time", columnList = "employee_id, start_time")
+})
+@Data
+@NoArgsConstructor
+public class ArchivedMeeting implements Persistable<Long> {
+
+    // The ID the meeting had in the hot table
+    @Id
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @ElementCollection
+    @CollectionTable(name = "meeting_archive_attendee",
+            joinColumns = @JoinColumn(name = "meeting_id"),
+            indexes = @Index(name = "idx_meeting_archive_attendee_employee", columnList = "employee_id"))
+    @Column(name = "employee_id")
+    private List<Long> attendeeIds = new ArrayList<>();
+
+    @Column(nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ArchivedMeeting(Meeting meeting, LocalDateTime archivedAt) {
+        this.id = meeting.getId();
+        this.employeeId = meeting.getEmployee().getId();
+        for (Employee attendee : meeting.getAttendees()) {
+            attendeeIds.add(attendee.getId());
+        }
+        this.startTime = meeting.getStartTime();
+        this.endTime = meeting.getEndTime();
+        this.title = meeting.getTitle();
+        this.archivedAt = archivedAt;
+    }
+
+    // Rows are only ever inserted, so saving one never has to look up an existing row with the same ID first
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
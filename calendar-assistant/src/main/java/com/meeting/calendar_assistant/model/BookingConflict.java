@@ -0,0 +1,20 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Body of a 409 for a rejected booking: the nearest free windows of the same length on either side, nearest first
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingConflict {
+    private String message;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<TimeWindow> earlierSlots;
+    private List<TimeWindow> laterSlots;
+}
@@ -0,0 +1,12 @@
+package com.meeting.calendar_assistant.model;
+
+import java.time.LocalDateTime;
+
+// Spring Data projection of a meeting's busy time
+public interface BusyInterval {
+    Long getId();
+
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
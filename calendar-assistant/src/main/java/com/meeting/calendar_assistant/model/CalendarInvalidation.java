@@ -0,0 +1,39 @@
+package com.meeting.calendar_assistant.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notice that an employee's calendar changed on one node, so other nodes must drop their cached copy.
+ * Rows of the outbox table are polled by every node in order of {@code version}.
+ */
+@Entity
+@Table(name = "calendar_invalidation")
+@Data
+@NoArgsConstructor
+public class CalendarInvalidation {
+
+    // Database-assigned so versions increase in insertion order across nodes; pooled sequences would not
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long version;
+
+    @Column(nullable = false)
+    private Long employeeId;
+
+    // Node that made the change; it has already updated its own cache
+    @Column(nullable = false, length = 36)
+    private String origin;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public CalendarInvalidation(Long employeeId, String origin, LocalDateTime createdAt) {
+        this.employeeId = employeeId;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,11 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ConflictCheckRequest {
+    private List<Long> participantIds;
+    private List<TimeWindow> windows;
+}
@@ -22,6 +22,10 @@ public class Employee {
     @Size(min = 1, max = 100, message = "Name must be between 1 and 100 characters")
     private String name;
 
+    // Bumped on every booking in optimistic concurrency mode
+    @Version
+    private long calendarVersion;
+
     @OneToMany(mappedBy = "employee", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<Meeting> meetings = new ArrayList<>();
 
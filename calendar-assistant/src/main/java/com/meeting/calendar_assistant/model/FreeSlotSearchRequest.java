@@ -0,0 +1,15 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class FreeSlotSearchRequest {
+    private List<Long> participantIds;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int durationInMinutes;
+    private int granularityInMinutes = 30;
+}
@@ -0,0 +1,15 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class GroupMeetingRequest {
+    private Long employeeId; // The organizer
+    private List<Long> attendeeIds;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String title;
+}
@@ -1,22 +1,34 @@
 package com.meeting.calendar_assistant.model;
 
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
+@Table(name = "meeting", indexes = {
+        @Index(name = "idx_meeting_employee_time", columnList = "employee_id, start_time, end_time")
+})
 @Data
 @NoArgsConstructor
 @ValidMeeting // Custom validation to ensure end time is after start time
 public class Meeting {
 
+    // Pooled sequence IDs (unlike IDENTITY) let Hibernate batch inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_seq")
+    @SequenceGenerator(name = "meeting_seq", sequenceName = "meeting_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Start time cannot be null")
@@ -27,10 +39,27 @@ public class Meeting {
     @Future(message = "End time must be in the future")
     private LocalDateTime endTime;
 
+    // The organizer; written as the employee's ID and left out of toString, so neither has to initialise
+    // a lazy reference
     @ManyToOne(optional = false)
     @JoinColumn(name = "employee_id")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
+    @ToString.Exclude
     private Employee employee;
 
+    // Invited employees besides the organizer, whose calendars the meeting blocks as well
+    @ManyToMany
+    @JoinTable(name = "meeting_attendee",
+            joinColumns = @JoinColumn(name = "meeting_id"),
+            inverseJoinColumns = @JoinColumn(name = "employee_id"),
+            indexes = @Index(name = "idx_meeting_attendee_employee", columnList = "employee_id"))
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<Employee> attendees = new ArrayList<>();
+
     @NotNull(message = "Title cannot be null")
     private String title;
 
@@ -40,4 +69,14 @@ public class Meeting {
         this.employee = employee;
         this.title = title;
     }
+
+    // The organizer first, then the attendees
+    public List<Long> participantIds() {
+        List<Long> participantIds = new ArrayList<>(1 + attendees.size());
+        participantIds.add(employee.getId());
+        for (Employee attendee : attendees) {
+            participantIds.add(attendee.getId());
+        }
+        return participantIds;
+    }
 }
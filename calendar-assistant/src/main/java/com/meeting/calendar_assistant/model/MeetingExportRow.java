@@ -0,0 +1,19 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Flat projection of a meeting used for exports; never attached to the persistence context
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingExportRow {
+    private Long id;
+    private Long employeeId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String title;
+}
@@ -0,0 +1,22 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// A meeting from either storage tier, as returned by the history API; archived tells which tier it came from
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MeetingHistoryEntry {
+    private Long id;
+    private Long employeeId;
+    private List<Long> attendeeIds;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String title;
+    private boolean archived;
+}
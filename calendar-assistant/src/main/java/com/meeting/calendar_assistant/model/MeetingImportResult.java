@@ -0,0 +1,20 @@
+package com.meeting.calendar_assistant.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MeetingImportResult {
+
+    public enum Status { CREATED, INVALID, EMPLOYEE_NOT_FOUND, CONFLICT }
+
+    private long line;
+    private Status status;
+    private Long meetingId;
+    private String message;
+}
@@ -0,0 +1,6 @@
+package com.meeting.calendar_assistant.model;
+
+// A meeting's busy time as seen by one participant, the organizer or an attendee
+public interface ParticipantBusyInterval extends BusyInterval {
+    Long getEmployeeId();
+}
@@ -0,0 +1,15 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantConflict {
+    private Long participantId;
+    private List<Long> meetingIds;
+}
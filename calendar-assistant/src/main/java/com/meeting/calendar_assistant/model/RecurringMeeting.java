@@ -0,0 +1,86 @@
+package com.meeting.calendar_assistant.model;
+
+import com.fasterxml.jackson.annotation.JsonIdentityInfo;
+import com.fasterxml.jackson.annotation.JsonIdentityReference;
+import com.fasterxml.jackson.annotation.ObjectIdGenerators;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A meeting repeated daily, weekly or monthly, stored as one row instead of one row per occurrence.
+ * Occurrences are expanded in memory, only within the window being checked.
+ */
+@Entity
+@Table(name = "recurring_meeting", indexes = {
+        @Index(name = "idx_recurring_meeting_employee", columnList = "employee_id")
+})
+@Data
+@NoArgsConstructor
+public class RecurringMeeting {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    // Shares the meeting sequence, so a conflict report can name single meetings and series alike
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_seq")
+    @SequenceGenerator(name = "meeting_seq", sequenceName = "meeting_seq", allocationSize = 50)
+    private Long id;
+
+    // Start and end of the first occurrence
+    @NotNull(message = "Start time cannot be null")
+    @Future(message = "Start time must be in the future")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "End time cannot be null")
+    private LocalDateTime endTime;
+
+    @NotNull(message = "Frequency cannot be null")
+    @Enumerated(EnumType.STRING)
+    private Frequency frequency;
+
+    // Every n days, weeks or months
+    @Min(value = 1, message = "Repeat interval must be positive")
+    private int repeatEvery = 1;
+
+    // Latest start of an occurrence; open-ended when null
+    private LocalDateTime repeatUntil;
+
+    // Starts of occurrences that were cancelled on their own
+    @ElementCollection
+    @CollectionTable(name = "recurring_meeting_exception", joinColumns = @JoinColumn(name = "series_id"))
+    @Column(name = "occurrence_start")
+    private Set<LocalDateTime> skippedOccurrences = new HashSet<>();
+
+    // Written as the employee's ID, which does not need the lazy reference to be loaded
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "employee_id")
+    @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
+    @JsonIdentityReference(alwaysAsId = true)
+    @ToString.Exclude
+    private Employee employee;
+
+    @NotNull(message = "Title cannot be null")
+    private String title;
+
+    public RecurringMeeting(LocalDateTime startTime, LocalDateTime endTime, Frequency frequency, int repeatEvery,
+                            LocalDateTime repeatUntil, Employee employee, String title) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.frequency = frequency;
+        this.repeatEvery = repeatEvery;
+        this.repeatUntil = repeatUntil;
+        this.employee = employee;
+        this.title = title;
+    }
+}
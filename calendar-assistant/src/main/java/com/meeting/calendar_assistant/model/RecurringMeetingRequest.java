@@ -0,0 +1,18 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class RecurringMeetingRequest {
+    private Long employeeId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String title;
+    private RecurringMeeting.Frequency frequency;
+    private int repeatEvery = 1;
+    private LocalDateTime repeatUntil;
+    private List<LocalDateTime> skippedOccurrences;
+}
@@ -0,0 +1,15 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeWindow {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,17 @@
+package com.meeting.calendar_assistant.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WindowConflicts {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private List<ParticipantConflict> conflicts;
+}
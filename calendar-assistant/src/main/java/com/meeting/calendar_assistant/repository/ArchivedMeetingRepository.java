@@ -0,0 +1,29 @@
+package com.meeting.calendar_assistant.repository;
+
+import com.meeting.calendar_assistant.model.ArchivedMeeting;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArchivedMeetingRepository extends JpaRepository<ArchivedMeeting, Long> {
+
+    // Archived meetings an employee organized that overlap the window [start, end)
+    @EntityGraph(attributePaths = "attendeeIds")
+    @Query("SELECT a FROM ArchivedMeeting a " +
+            "WHERE a.employeeId = :employeeId AND a.startTime < :end AND a.endTime > :start")
+    List<ArchivedMeeting> findOrganizedOverlapping(@Param("employeeId") Long employeeId,
+                                                   @Param("start") LocalDateTime start,
+                                                   @Param("end") LocalDateTime end);
+
+    // Archived meetings an employee attended without organizing them that overlap the window [start, end)
+    @EntityGraph(attributePaths = "attendeeIds")
+    @Query("SELECT a FROM ArchivedMeeting a " +
+            "WHERE :employeeId MEMBER OF a.attendeeIds AND a.startTime < :end AND a.endTime > :start")
+    List<ArchivedMeeting> findAttendedOverlapping(@Param("employeeId") Long employeeId,
+                                                  @Param("start") LocalDateTime start,
+                                                  @Param("end") LocalDateTime end);
+}
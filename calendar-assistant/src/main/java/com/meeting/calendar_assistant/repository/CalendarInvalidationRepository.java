@@ -0,0 +1,29 @@
+package com.meeting.calendar_assistant.repository;
+
+import com.meeting.calendar_assistant.model.CalendarInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CalendarInvalidationRepository extends JpaRepository<CalendarInvalidation, Long> {
+
+    // Next batch of invalidations after the given version, oldest first
+    List<CalendarInvalidation> findTop500ByVersionGreaterThanOrderByVersionAsc(long version);
+
+    // Rows for versions that were skipped by an earlier poll because they had not committed yet
+    List<CalendarInvalidation> findByVersionIn(Collection<Long> versions);
+
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM CalendarInvalidation c")
+    long findLatestVersion();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CalendarInvalidation c WHERE c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,22 +1,107 @@
 package com.meeting.calendar_assistant.repository;
 
+import com.meeting.calendar_assistant.model.BusyInterval;
 import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingExportRow;
+import com.meeting.calendar_assistant.model.ParticipantBusyInterval;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     // Retrieve meetings by employee ID
     List<Meeting> findByEmployee_Id(Long employeeId);
 
+    // Only the columns needed to build an in-memory calendar
+    List<BusyInterval> findBusyIntervalsByEmployee_Id(Long employeeId);
+
+    // Busy intervals of the meetings an employee attends without organizing them
+    @Query("SELECT m.id AS id, m.startTime AS startTime, m.endTime AS endTime FROM Meeting m JOIN m.attendees a " +
+            "WHERE a.id = :employeeId")
+    List<BusyInterval> findAttendedBusyIntervals(@Param("employeeId") Long employeeId);
+
+    // Every meeting's busy time once for its organizer and once per attendee, to seed the booking event log
+    @Query("SELECT m.employee.id AS employeeId, m.id AS id, m.startTime AS startTime, m.endTime AS endTime FROM Meeting m")
+    List<ParticipantBusyInterval> findAllOrganizedBusyIntervals();
+
+    @Query("SELECT a.id AS employeeId, m.id AS id, m.startTime AS startTime, m.endTime AS endTime " +
+            "FROM Meeting m JOIN m.attendees a")
+    List<ParticipantBusyInterval> findAllAttendedBusyIntervals();
+
+    // With count(), what the booking event log checks its recovered calendars against at startup
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Meeting m")
+    long findMaxId();
+
+    // Busy intervals of an employee's meetings that end after the given time
+    List<BusyInterval> findBusyIntervalsByEmployee_IdAndEndTimeAfter(Long employeeId, LocalDateTime time);
+
     // Retrieve meetings within a specific time range
     List<Meeting> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
 
     // Retrieve meetings for an employee within a specific time range
     List<Meeting> findByEmployee_IdAndStartTimeBetween(Long employeeId, LocalDateTime startDate, LocalDateTime endDate);
 
+    // Retrieve an employee's meetings overlapping the window [start, end)
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.employee " +
+            "WHERE m.employee.id = :employeeId AND m.startTime < :end AND m.endTime > :start " +
+            "ORDER BY m.startTime")
+    List<Meeting> findOverlapping(@Param("employeeId") Long employeeId,
+                                  @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end);
+
+    // Retrieve the meetings an employee attends without organizing them that overlap the window [start, end)
+    @Query("SELECT m FROM Meeting m JOIN m.attendees a " +
+            "WHERE a.id = :employeeId AND m.startTime < :end AND m.endTime > :start " +
+            "ORDER BY m.startTime")
+    List<Meeting> findAttendedOverlapping(@Param("employeeId") Long employeeId,
+                                          @Param("start") LocalDateTime start,
+                                          @Param("end") LocalDateTime end);
+
+    // Which of the given employees organize a meeting overlapping the window [start, end)
+    @Query("SELECT DISTINCT m.employee.id FROM Meeting m " +
+            "WHERE m.employee.id IN :employeeIds AND m.startTime < :end AND m.endTime > :start")
+    List<Long> findBusyOrganizers(@Param("employeeIds") Collection<Long> employeeIds,
+                                  @Param("start") LocalDateTime start,
+                                  @Param("end") LocalDateTime end);
+
+    @Query("SELECT DISTINCT a.id FROM Meeting m JOIN m.attendees a " +
+            "WHERE a.id IN :employeeIds AND m.startTime < :end AND m.endTime > :start")
+    List<Long> findBusyAttendees(@Param("employeeIds") Collection<Long> employeeIds,
+                                 @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end);
+
+    // A meeting with its attendees loaded, so it can be removed from every participant's calendar
+    @EntityGraph(attributePaths = "attendees")
+    Optional<Meeting> findWithAttendeesById(Long id);
+
+    // Stream meetings starting within [start, end) as flat rows; must be consumed inside a transaction
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT new com.meeting.calendar_assistant.model.MeetingExportRow(" +
+            "m.id, m.employee.id, m.startTime, m.endTime, m.title) " +
+            "FROM Meeting m WHERE m.startTime >= :start AND m.startTime < :end ORDER BY m.startTime, m.id")
+    Stream<MeetingExportRow> streamExportRows(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // IDs of the oldest meetings that ended before the cutoff, one page at a time, for archiving
+    @Query("SELECT m.id FROM Meeting m WHERE m.endTime < :cutoff ORDER BY m.endTime, m.id")
+    List<Long> findIdsEndedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable page);
+
+    @EntityGraph(attributePaths = "attendees")
+    List<Meeting> findWithAttendeesByIdIn(Collection<Long> ids);
+
     // Delete meetings associated with an employee ID
     void deleteByEmployee_Id(Long employeeId);
 }
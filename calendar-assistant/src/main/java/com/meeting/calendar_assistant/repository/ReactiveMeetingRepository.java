@@ -0,0 +1,129 @@
+package com.meeting.calendar_assistant.repository;
+
+import com.meeting.calendar_assistant.model.BusyInterval;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking access to the tables mapped by {@link MeetingRepository}, {@link RecurringMeetingRepository} and
+ * {@link EmployeeRepository}, used by the reactive API. The schema itself is still created and owned by JPA.
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveMeetingRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveMeetingRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    // Only the columns needed to build an in-memory calendar, for meetings the employee organizes or attends
+    public Flux<BusyInterval> findBusyIntervals(Long employeeId) {
+        return databaseClient.sql("SELECT id, start_time, end_time FROM meeting WHERE employee_id = :employeeId"
+                        + " UNION ALL SELECT m.id, m.start_time, m.end_time FROM meeting m"
+                        + " JOIN meeting_attendee a ON a.meeting_id = m.id WHERE a.employee_id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(row -> (BusyInterval) new Interval(row.get("id", Long.class),
+                        row.get("start_time", LocalDateTime.class), row.get("end_time", LocalDateTime.class)))
+                .all();
+    }
+
+    // An employee's series with their skipped occurrences; the two tables are read separately and joined in memory
+    public Flux<RecurringMeeting> findRecurringSeries(Long employeeId) {
+        Mono<Map<Long, Set<LocalDateTime>>> skippedBySeries = databaseClient.sql(
+                        "SELECT x.series_id, x.occurrence_start FROM recurring_meeting_exception x"
+                                + " JOIN recurring_meeting s ON s.id = x.series_id WHERE s.employee_id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(row -> Map.entry(row.get("series_id", Long.class), row.get("occurrence_start", LocalDateTime.class)))
+                .all()
+                .collect(Collectors.groupingBy(Map.Entry::getKey,
+                        Collectors.mapping(Map.Entry::getValue, Collectors.toCollection(HashSet::new))));
+
+        return skippedBySeries.flatMapMany(skipped -> databaseClient.sql(
+                        "SELECT id, start_time, end_time, frequency, repeat_every, repeat_until FROM recurring_meeting"
+                                + " WHERE employee_id = :employeeId")
+                .bind("employeeId", employeeId)
+                .map(row -> {
+                    Employee employee = new Employee();
+                    employee.setId(employeeId);
+                    RecurringMeeting series = new RecurringMeeting(row.get("start_time", LocalDateTime.class),
+                            row.get("end_time", LocalDateTime.class),
+                            RecurringMeeting.Frequency.valueOf(row.get("frequency", String.class)),
+                            row.get("repeat_every", Integer.class), row.get("repeat_until", LocalDateTime.class),
+                            employee, null);
+                    series.setId(row.get("id", Long.class));
+                    series.setSkippedOccurrences(skipped.getOrDefault(series.getId(), new HashSet<>()));
+                    return series;
+                })
+                .all());
+    }
+
+    // Locks the employee's row until the transaction ends and bumps the version checked by optimistic bookings;
+    // emits the number of rows updated, i.e. 0 for an unknown employee
+    public Mono<Long> claimCalendar(Long employeeId) {
+        return databaseClient.sql("UPDATE employee SET calendar_version = calendar_version + 1 WHERE id = :employeeId")
+                .bind("employeeId", employeeId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // Meetings the employee organizes or attends
+    public Mono<Boolean> existsOverlapping(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        return databaseClient.sql("SELECT (SELECT COUNT(*) FROM meeting WHERE employee_id = :employeeId"
+                        + " AND start_time < :endTime AND end_time > :startTime)"
+                        + " + (SELECT COUNT(*) FROM meeting m JOIN meeting_attendee a ON a.meeting_id = m.id"
+                        + " WHERE a.employee_id = :employeeId AND m.start_time < :endTime AND m.end_time > :startTime)")
+                .bind("employeeId", employeeId)
+                .bind("startTime", startTime)
+                .bind("endTime", endTime)
+                .map(row -> row.get(0, Long.class) > 0)
+                .one();
+    }
+
+    // Takes its ID from the sequence Hibernate allocates from; a fetched value is never handed out by Hibernate itself
+    public Mono<Long> insert(Long employeeId, LocalDateTime startTime, LocalDateTime endTime, String title) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR meeting_seq")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> databaseClient.sql("INSERT INTO meeting (id, start_time, end_time, employee_id, title)"
+                                + " VALUES (:id, :startTime, :endTime, :employeeId, :title)")
+                        .bind("id", id)
+                        .bind("startTime", startTime)
+                        .bind("endTime", endTime)
+                        .bind("employeeId", employeeId)
+                        .bind("title", title)
+                        .fetch()
+                        .rowsUpdated()
+                        .thenReturn(id));
+    }
+
+    private record Interval(Long id, LocalDateTime startTime, LocalDateTime endTime) implements BusyInterval {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public LocalDateTime getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public LocalDateTime getEndTime() {
+            return endTime;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.meeting.calendar_assistant.repository;
+
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringMeetingRepository extends JpaRepository<RecurringMeeting, Long> {
+
+    // An employee's series together with their skipped occurrences, enough to expand them in memory
+    @Query("SELECT DISTINCT s FROM RecurringMeeting s LEFT JOIN FETCH s.skippedOccurrences WHERE s.employee.id = :employeeId")
+    List<RecurringMeeting> findWithSkippedOccurrencesByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Query("SELECT DISTINCT s FROM RecurringMeeting s LEFT JOIN FETCH s.skippedOccurrences WHERE s.employee.id IN :employeeIds")
+    List<RecurringMeeting> findWithSkippedOccurrencesByEmployeeIdIn(@Param("employeeIds") Collection<Long> employeeIds);
+
+    @Query("SELECT s FROM RecurringMeeting s LEFT JOIN FETCH s.skippedOccurrences WHERE s.id = :id")
+    Optional<RecurringMeeting> findWithSkippedOccurrencesById(@Param("id") Long id);
+}
@@ -0,0 +1,178 @@
+package com.meeting.calendar_assistant.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Free-slot engine that represents each employee's busy time as a bitset of fixed-size cells, one
+ * {@code long[]} per employee per day. Intersecting many participants is then a word-wise OR of their
+ * day bitmaps followed by a run-length scan for clear bits.
+ * <p>
+ * Day bitmaps are cached per employee and day, bounded by {@code calendar.free-slots.bitset.maximum-days}
+ * and expiring with the calendars after {@code calendar.cache.ttl}. Each is tied to the
+ * {@link EmployeeCalendar} snapshot it was built from, so any booking or cancellation (which replaces the
+ * snapshot) invalidates it implicitly; the snapshot is only weakly referenced, so a cached bitmap does not
+ * keep a replaced calendar alive. Busy time is rounded outwards to whole cells.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.free-slots.engine", havingValue = "bitset")
+public class BitsetFreeSlotFinder implements FreeSlotEngine {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long DEFAULT_MAXIMUM_DAYS = 100_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private final int cellMinutes;
+    private final int cellsPerDay;
+    private final Cache<DayKey, DayBitmap> dayBitmaps;
+
+    public BitsetFreeSlotFinder(int cellMinutes) {
+        this(cellMinutes, DEFAULT_MAXIMUM_DAYS, DEFAULT_TTL);
+    }
+
+    @Autowired
+    public BitsetFreeSlotFinder(@Value("${calendar.free-slots.bitset.cell-minutes:15}") int cellMinutes,
+                                @Value("${calendar.free-slots.bitset.maximum-days:100000}") long maximumDays,
+                                @Value("${calendar.cache.ttl:10m}") Duration ttl) {
+        if (cellMinutes <= 0 || 1440 % cellMinutes != 0) {
+            throw new IllegalArgumentException("Cell size must divide a day evenly: " + cellMinutes);
+        }
+        this.cellMinutes = cellMinutes;
+        this.cellsPerDay = 1440 / cellMinutes;
+        this.dayBitmaps = Caffeine.newBuilder()
+                .maximumSize(maximumDays)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    @Override
+    public FreeSlots findFreeSlots(Map<Long, EmployeeCalendar> calendarsByEmployee, LocalDateTime from, LocalDateTime to,
+                                   int durationInMinutes, int granularityInMinutes) {
+        if (granularityInMinutes % cellMinutes != 0) {
+            throw new IllegalArgumentException("Granularity must be a multiple of " + cellMinutes + " minutes");
+        }
+        long horizonStart = EmployeeCalendar.toEpochSecond(from);
+        long horizonEnd = EmployeeCalendar.toEpochSecond(to);
+        long firstDay = Math.floorDiv(horizonStart, SECONDS_PER_DAY);
+        long lastDay = Math.floorDiv(horizonEnd - 1, SECONDS_PER_DAY);
+        int totalCells = Math.toIntExact((lastDay - firstDay + 1) * cellsPerDay);
+
+        long[] busy = new long[(totalCells + 63) >>> 6];
+        calendarsByEmployee.forEach((employeeId, calendar) -> {
+            for (long day = firstDay; day <= lastDay; day++) {
+                orInto(busy, dayBitmap(employeeId, calendar, day), (int) (day - firstDay) * cellsPerDay);
+            }
+        });
+
+        long origin = firstDay * SECONDS_PER_DAY;
+        long cellSeconds = cellMinutes * SECONDS_PER_MINUTE;
+
+        int scanLimit = (int) Math.min(totalCells, (horizonEnd - origin + cellSeconds - 1) / cellSeconds);
+
+        FreeSlots.Builder freeSlots = new FreeSlots.Builder(granularityInMinutes);
+        int runStart = nextClearBit(busy, (int) ((horizonStart - origin) / cellSeconds), scanLimit);
+        while (runStart < scanLimit) {
+            int runEnd = nextSetBit(busy, runStart, scanLimit);
+            long gapStart = Math.max(horizonStart, origin + runStart * cellSeconds);
+            long gapEnd = Math.min(horizonEnd, origin + runEnd * cellSeconds);
+            freeSlots.addAligned(FreeSlots.ceilEpochMinute(gapStart), FreeSlots.floorEpochMinute(gapEnd), durationInMinutes);
+            runStart = nextClearBit(busy, runEnd, scanLimit);
+        }
+        return freeSlots.build();
+    }
+
+    private long[] dayBitmap(Long employeeId, EmployeeCalendar calendar, long epochDay) {
+        DayKey key = new DayKey(employeeId, epochDay);
+        DayBitmap bitmap = dayBitmaps.getIfPresent(key);
+        if (bitmap == null || bitmap.source().get() != calendar) {
+            bitmap = new DayBitmap(new WeakReference<>(calendar), buildDayBitmap(calendar, epochDay));
+            dayBitmaps.put(key, bitmap);
+        }
+        return bitmap.words();
+    }
+
+    private long[] buildDayBitmap(EmployeeCalendar employeeCalendar, long epochDay) {
+        long dayStart = epochDay * SECONDS_PER_DAY;
+        long dayEnd = dayStart + SECONDS_PER_DAY;
+        EmployeeCalendar calendar = employeeCalendar.expand(dayStart, dayEnd);
+        long cellSeconds = cellMinutes * SECONDS_PER_MINUTE;
+        long[] words = new long[(cellsPerDay + 63) >>> 6];
+
+        for (int i = calendar.firstEndingAfter(dayStart); i < calendar.size() && calendar.startAt(i) < dayEnd; i++) {
+            if (calendar.endAt(i) <= dayStart) {
+                continue;
+            }
+            int fromCell = (int) ((Math.max(calendar.startAt(i), dayStart) - dayStart) / cellSeconds);
+            int toCell = (int) ((Math.min(calendar.endAt(i), dayEnd) - dayStart + cellSeconds - 1) / cellSeconds);
+            setRange(words, fromCell, toCell);
+        }
+        return words;
+    }
+
+    private static void setRange(long[] words, int fromBit, int toBit) {
+        for (int bit = fromBit; bit < toBit; ) {
+            int word = bit >>> 6;
+            int wordEnd = Math.min(toBit, (word + 1) << 6);
+            long mask = (wordEnd - bit == 64) ? -1L : ((1L << (wordEnd - bit)) - 1) << (bit & 63);
+            words[word] |= mask;
+            bit = wordEnd;
+        }
+    }
+
+    private static void orInto(long[] target, long[] source, int bitOffset) {
+        int wordOffset = bitOffset >>> 6;
+        int shift = bitOffset & 63;
+        for (int i = 0; i < source.length; i++) {
+            long word = source[i];
+            if (word == 0) {
+                continue;
+            }
+            if (wordOffset + i < target.length) {
+                target[wordOffset + i] |= word << shift;
+            }
+            if (shift != 0 && wordOffset + i + 1 < target.length) {
+                target[wordOffset + i + 1] |= word >>> (64 - shift);
+            }
+        }
+    }
+
+    private static int nextClearBit(long[] words, int fromBit, int limit) {
+        for (int bit = fromBit; bit < limit; ) {
+            int word = bit >>> 6;
+            long inverted = ~words[word] & (-1L << (bit & 63));
+            if (inverted != 0) {
+                return Math.min(limit, (word << 6) + Long.numberOfTrailingZeros(inverted));
+            }
+            bit = (word + 1) << 6;
+        }
+        return limit;
+    }
+
+    private static int nextSetBit(long[] words, int fromBit, int limit) {
+        for (int bit = fromBit; bit < limit; ) {
+            int word = bit >>> 6;
+            long masked = words[word] & (-1L << (bit & 63));
+            if (masked != 0) {
+                return Math.min(limit, (word << 6) + Long.numberOfTrailingZeros(masked));
+            }
+            bit = (word + 1) << 6;
+        }
+        return limit;
+    }
+
+    private record DayKey(long employeeId, long epochDay) {
+    }
+
+    private record DayBitmap(WeakReference<EmployeeCalendar> source, long[] words) {
+    }
+}
@@ -0,0 +1,594 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.ParticipantBusyInterval;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Optional persistence engine for calendars: an append-only binary log of bookings and cancellations, compacted
+ * into periodic snapshots of every employee's interval arrays. Selected with
+ * {@code calendar.persistence.engine=event-log}.
+ * <p>
+ * Writers hand their events to a single appender thread and wait for it, for at most
+ * {@code calendar.persistence.event-log.write-timeout}. The appender writes everything queued since its previous
+ * write with one {@link FileChannel} write and one force, so concurrent bookings share the cost of a sync. Every
+ * event is then applied to in-memory calendars, which {@link CalendarIndex} loads from instead of querying the
+ * database for single meetings; recurring series are still read from the database.
+ * <p>
+ * A snapshot rotates the log to a new segment and writes the calendars as of the rotation. At startup the newest
+ * snapshot is memory-mapped and only the segments written after it are replayed, up to a torn final record if
+ * the process died mid-write. Calendars read from a snapshot keep their columns in its mapping, and every new
+ * snapshot takes over the calendars unchanged since its rotation, so the heap only holds the calendars changed
+ * since the last snapshot.
+ * <p>
+ * The database stays the authority. With neither a snapshot nor a log the calendars are seeded from it, and so
+ * they are when the recovered calendars disagree with it on the number of meetings or the highest meeting ID, as
+ * after a crash between a commit and its log record or with a database recreated empty. The engine refuses an
+ * in-memory database, which would be empty on every start. Once a write fails or times out, the calendars it
+ * concerns are loaded from the database until the next start. Only bookings made through this node reach its
+ * log, so the engine is for single-node deployments and refuses the outbox invalidation bus.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.persistence.engine", havingValue = "event-log")
+public class BookingEventLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingEventLog.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final int SNAPSHOT_MAGIC = 0x43414c53; // "CALS"
+    private static final int SNAPSHOT_VERSION = 3;
+    // Starts, ends, meeting IDs and the subtree maximum ends of the calendar index, per employee
+    private static final int SNAPSHOT_COLUMNS = 4;
+
+    private static final byte BOOKED = 1;
+    private static final byte CANCELLED = 2;
+    // Type, meeting ID, start, end and participant count; the participant IDs and a CRC32 of the record follow
+    private static final int RECORD_HEADER_BYTES = 1 + 8 + 8 + 8 + 4;
+    private static final int MAX_BATCH = 1024;
+
+    private final MeetingRepository meetingRepository;
+    private final Path directory;
+    private final Duration writeTimeout;
+
+    // Written by the appender thread only, once started
+    private final Map<Long, EmployeeCalendar> calendars = new ConcurrentHashMap<>();
+    // Employees whose calendars may be missing a change the database has
+    private final Set<Long> diverged = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<Long>> divergenceListeners = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<Append> queue = new LinkedBlockingQueue<>();
+    private final AtomicReference<CompletableFuture<Cut>> rotation = new AtomicReference<>();
+    private final Thread appender = new Thread(this::appendLoop, "booking-event-log");
+
+    private volatile boolean running;
+    private volatile long eventsInSegment;
+    private FileChannel segment;
+    private long segmentNumber;
+
+    public BookingEventLog(MeetingRepository meetingRepository,
+                           @Value("${calendar.persistence.event-log.directory:data/booking-log}") Path directory,
+                           @Value("${calendar.cache.invalidation.bus:in-jvm}") String invalidationBus,
+                           @Value("${spring.datasource.url:}") String datasourceUrl,
+                           @Value("${calendar.persistence.event-log.write-timeout:5s}") Duration writeTimeout) {
+        if ("outbox".equals(invalidationBus)) {
+            throw new IllegalStateException("The event-log persistence engine serves a single node and cannot be "
+                    + "combined with the outbox invalidation bus");
+        }
+        if (datasourceUrl.contains(":mem:")) {
+            throw new IllegalStateException("The event-log persistence engine needs a persistent database to check "
+                    + "its log against, not " + datasourceUrl);
+        }
+        this.meetingRepository = meetingRepository;
+        this.directory = directory;
+        this.writeTimeout = writeTimeout;
+        appender.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        long startedAt = System.nanoTime();
+        Files.createDirectories(directory);
+        List<Long> snapshots = numbered(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        List<Long> segments = numbered(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+
+        long replayFrom = snapshots.isEmpty() ? 0 : snapshots.get(snapshots.size() - 1);
+        long replayed = 0;
+        boolean recovered = !snapshots.isEmpty() || !segments.isEmpty();
+        if (recovered) {
+            try {
+                if (!snapshots.isEmpty()) {
+                    calendars.putAll(loadSnapshot(snapshotPath(replayFrom)));
+                }
+                for (long number : segments) {
+                    if (number >= replayFrom) {
+                        replayed += replay(segmentPath(number));
+                    }
+                }
+            } catch (IOException e) {
+                logger.warn("Booking event log in {} is unreadable, seeding it from the database", directory, e);
+                recovered = false;
+            }
+        }
+
+        // Never append after a record that may have been torn; every start opens a fresh segment
+        segmentNumber = segments.isEmpty() ? replayFrom : Math.max(replayFrom, segments.get(segments.size() - 1) + 1);
+        if (!recovered || !matchesDatabase()) {
+            calendars.clear();
+            seedFromDatabase();
+            writeSnapshot(segmentNumber, calendars);
+            calendars.putAll(loadSnapshot(snapshotPath(segmentNumber)));
+            dropBefore(segmentNumber);
+        }
+        segment = openSegment(segmentNumber);
+        running = true;
+        appender.start();
+        logger.info("Booking event log in {} recovered {} calendars, replaying {} events, in {} ms", directory,
+                calendars.size(), replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    // Durable once the future completes; calendarOf includes the meetings from then on. Fails after the write timeout
+    public CompletableFuture<Void> booked(Collection<Meeting> meetings) {
+        List<Event> events = new ArrayList<>(meetings.size());
+        for (Meeting meeting : meetings) {
+            events.add(Event.of(BOOKED, meeting));
+        }
+        return append(events);
+    }
+
+    public CompletableFuture<Void> cancelled(Meeting meeting) {
+        return append(List.of(Event.of(CANCELLED, meeting)));
+    }
+
+    // The single meetings the employee organizes or attends, without recurring series; null once a write
+    // concerning the employee has failed, when only the database has them all
+    public EmployeeCalendar calendarOf(Long employeeId) {
+        if (diverged.contains(employeeId)) {
+            return null;
+        }
+        return calendars.getOrDefault(employeeId, EmployeeCalendar.EMPTY);
+    }
+
+    // Told about every employee a failed write concerned, before the writer sees the failure
+    public void onDiverged(Consumer<Long> listener) {
+        divergenceListeners.add(listener);
+    }
+
+    // Rotates to a new segment, writes the calendars as of the rotation and drops what the snapshot replaces
+    @Scheduled(fixedDelayString = "${calendar.persistence.event-log.snapshot-interval-ms:600000}",
+            initialDelayString = "${calendar.persistence.event-log.snapshot-interval-ms:600000}")
+    public synchronized void snapshot() {
+        if (!running || eventsInSegment == 0) {
+            return;
+        }
+        CompletableFuture<Cut> requested = new CompletableFuture<>();
+        rotation.set(requested);
+        Cut cut;
+        try {
+            cut = requested.orTimeout(writeTimeout.toMillis(), TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            // Withdrawn unless the appender has already taken it; the segments are kept either way
+            rotation.compareAndSet(requested, null);
+            logger.error("Booking event log snapshot could not rotate the log", e.getCause());
+            return;
+        }
+        try {
+            writeSnapshot(cut.segmentNumber(), cut.calendars());
+            // Only calendars no event has replaced since the rotation; identity, as calendars do not define equals
+            loadSnapshot(snapshotPath(cut.segmentNumber())).forEach((employeeId, mapped) ->
+                    calendars.replace(employeeId, cut.calendars().get(employeeId), mapped));
+            dropBefore(cut.segmentNumber());
+        } catch (IOException e) {
+            // The segments are kept, so the next start replays them instead
+            logger.error("Booking event log snapshot {} failed", cut.segmentNumber(), e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        running = false;
+        appender.join();
+        IllegalStateException closed = new IllegalStateException("Booking event log is closed");
+        for (Append leftover; (leftover = queue.poll()) != null; ) {
+            leftover.written().completeExceptionally(closed);
+        }
+        CompletableFuture<Cut> pending = rotation.getAndSet(null);
+        if (pending != null) {
+            pending.completeExceptionally(closed);
+        }
+        segment.close();
+    }
+
+    private CompletableFuture<Void> append(List<Event> events) {
+        if (events.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> written;
+        if (running) {
+            Append append = new Append(events, new CompletableFuture<>());
+            queue.add(append);
+            // A caller giving up does not withdraw the events; they may still be written later
+            written = append.written().copy().orTimeout(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } else {
+            written = CompletableFuture.failedFuture(new IllegalStateException("Booking event log is closed"));
+        }
+        // The change is committed by now, so the calendars it concerns are read from the database from now on
+        return written.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                for (Event event : events) {
+                    for (long participantId : event.participantIds()) {
+                        diverged.add(participantId);
+                        divergenceListeners.forEach(listener -> listener.accept(participantId));
+                    }
+                }
+            }
+        });
+    }
+
+    private void appendLoop() {
+        List<Append> batch = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        while (running || !queue.isEmpty()) {
+            try {
+                Append first = queue.poll(50, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    buffer = write(batch, buffer);
+                    batch.clear();
+                }
+                CompletableFuture<Cut> requested = rotation.getAndSet(null);
+                if (requested != null) {
+                    rotate(requested);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                // Keep appending; the writers waiting on this batch would otherwise only ever time out
+                logger.error("Booking event log appender failed on a batch of {} writes", batch.size(), e);
+                batch.forEach(append -> append.written().completeExceptionally(e));
+                batch.clear();
+            }
+        }
+    }
+
+    // One write and one force for the whole batch; nothing in it is acknowledged unless both succeed
+    private ByteBuffer write(List<Append> batch, ByteBuffer buffer) {
+        int bytes = 0;
+        for (Append append : batch) {
+            for (Event event : append.events()) {
+                bytes += event.encodedSize();
+            }
+        }
+        if (buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect(Integer.highestOneBit(bytes) << 1);
+        }
+        buffer.clear();
+        CRC32 crc = new CRC32();
+        for (Append append : batch) {
+            for (Event event : append.events()) {
+                event.encode(buffer, crc);
+            }
+        }
+        buffer.flip();
+
+        long position = -1;
+        try {
+            position = segment.position();
+            while (buffer.hasRemaining()) {
+                segment.write(buffer);
+            }
+            segment.force(false);
+        } catch (IOException e) {
+            logger.error("Booking event log write to segment {} failed", segmentNumber, e);
+            discardFrom(position);
+            UncheckedIOException failure = new UncheckedIOException("Booking event log write failed", e);
+            batch.forEach(append -> append.written().completeExceptionally(failure));
+            return buffer;
+        }
+
+        for (Append append : batch) {
+            append.events().forEach(this::apply);
+            eventsInSegment += append.events().size();
+            append.written().complete(null);
+        }
+        return buffer;
+    }
+
+    // Cuts a partly written batch off, so that later batches do not follow a torn record
+    private void discardFrom(long position) {
+        if (position < 0) {
+            return;
+        }
+        try {
+            segment.truncate(position);
+            segment.position(position);
+        } catch (IOException e) {
+            logger.error("Booking event log could not discard a failed write to segment {}", segmentNumber, e);
+        }
+    }
+
+    private void rotate(CompletableFuture<Cut> requested) {
+        try {
+            segment.close();
+            segment = openSegment(segmentNumber + 1);
+            segmentNumber++;
+            eventsInSegment = 0;
+            // Calendars are immutable, so a shallow copy is the state as of the rotation
+            requested.complete(new Cut(segmentNumber, new HashMap<>(calendars)));
+        } catch (IOException e) {
+            requested.completeExceptionally(new UncheckedIOException("Booking event log rotation failed", e));
+        }
+    }
+
+    private void apply(Event event) {
+        for (long participantId : event.participantIds()) {
+            if (event.type() == BOOKED) {
+                calendars.compute(participantId, (id, calendar) -> (calendar == null ? EmployeeCalendar.EMPTY : calendar)
+                        .withMeeting(event.meetingId(), event.start(), event.end()));
+            } else {
+                calendars.computeIfPresent(participantId, (id, calendar) -> {
+                    EmployeeCalendar remaining = calendar.withoutMeeting(event.meetingId());
+                    return remaining.size() == 0 ? null : remaining;
+                });
+            }
+        }
+    }
+
+    // Replays a segment through its last intact record and truncates whatever follows it
+    private long replay(Path path) throws IOException {
+        long events = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            int intact = 0;
+            while (buffer.remaining() >= RECORD_HEADER_BYTES + 4) {
+                Event event = Event.decode(buffer, crc);
+                if (event == null) {
+                    break;
+                }
+                apply(event);
+                events++;
+                intact = buffer.position();
+            }
+            if (intact < size) {
+                logger.warn("Discarding {} bytes after the last intact record of {}", size - intact, path);
+                channel.truncate(intact);
+            }
+        }
+        return events;
+    }
+
+    // The calendars keep their columns in the mapping, which stays valid after the channel is closed
+    private Map<Long, EmployeeCalendar> loadSnapshot(Path path) throws IOException {
+        Map<Long, EmployeeCalendar> loaded = new HashMap<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Not a calendar snapshot: " + path);
+            }
+            buffer.getLong(); // first segment not covered, also in the file name
+            int employees = buffer.getInt();
+            for (int e = 0; e < employees; e++) {
+                long employeeId = buffer.getLong();
+                int size = buffer.getInt();
+                int bytes = SNAPSHOT_COLUMNS * Long.BYTES * size;
+                LongBuffer columns = buffer.slice(buffer.position(), bytes).asLongBuffer();
+                buffer.position(buffer.position() + bytes);
+                loaded.put(employeeId, EmployeeCalendar.ofColumns(columns.slice(0, size), columns.slice(size, size),
+                        columns.slice(2 * size, size), columns.slice(3 * size, size)));
+            }
+        }
+        return loaded;
+    }
+
+    // Written next to the live snapshot and moved over it, so a crash leaves either the old or the new one
+    private void writeSnapshot(long segmentNumber, Map<Long, EmployeeCalendar> calendars) throws IOException {
+        Path target = snapshotPath(segmentNumber);
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(segmentNumber);
+            out.writeInt(calendars.size());
+            for (Map.Entry<Long, EmployeeCalendar> entry : calendars.entrySet()) {
+                EmployeeCalendar calendar = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeInt(calendar.size());
+                for (int i = 0; i < calendar.size(); i++) {
+                    out.writeLong(calendar.startAt(i));
+                }
+                for (int i = 0; i < calendar.size(); i++) {
+                    out.writeLong(calendar.endAt(i));
+                }
+                for (int i = 0; i < calendar.size(); i++) {
+                    out.writeLong(calendar.meetingIdAt(i));
+                }
+                for (int i = 0; i < calendar.size(); i++) {
+                    out.writeLong(calendar.subtreeMaxEndAt(i));
+                }
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void dropBefore(long segmentNumber) throws IOException {
+        for (long number : numbered(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (number < segmentNumber) {
+                Files.deleteIfExists(snapshotPath(number));
+            }
+        }
+        for (long number : numbered(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (number < segmentNumber) {
+                Files.deleteIfExists(segmentPath(number));
+            }
+        }
+    }
+
+    // A cheap check rather than a comparison of every meeting: how many there are and the highest ID
+    private boolean matchesDatabase() {
+        long[] meetingIds = calendars.values().stream()
+                .flatMapToLong(calendar -> IntStream.range(0, calendar.size()).mapToLong(calendar::meetingIdAt))
+                .sorted()
+                .toArray();
+        long logged = 0;
+        for (int i = 0; i < meetingIds.length; i++) {
+            if (i == 0 || meetingIds[i] != meetingIds[i - 1]) {
+                logged++;
+            }
+        }
+        long loggedMaxId = meetingIds.length == 0 ? 0 : meetingIds[meetingIds.length - 1];
+        long stored = meetingRepository.count();
+        long storedMaxId = meetingRepository.findMaxId();
+        if (logged == stored && loggedMaxId == storedMaxId) {
+            return true;
+        }
+        logger.warn("Booking event log in {} holds {} meetings up to ID {} but the database {} up to ID {}; "
+                + "seeding it from the database", directory, logged, loggedMaxId, stored, storedMaxId);
+        return false;
+    }
+
+    // Two scans of the meeting table instead of two queries per employee
+    private void seedFromDatabase() {
+        Map<Long, List<ParticipantBusyInterval>> intervalsByEmployee = new HashMap<>();
+        Stream.concat(meetingRepository.findAllOrganizedBusyIntervals().stream(),
+                        meetingRepository.findAllAttendedBusyIntervals().stream())
+                .forEach(interval -> intervalsByEmployee.computeIfAbsent(interval.getEmployeeId(), id -> new ArrayList<>())
+                        .add(interval));
+        intervalsByEmployee.forEach((employeeId, intervals) -> {
+            long[] starts = new long[intervals.size()];
+            long[] ends = new long[intervals.size()];
+            long[] meetingIds = new long[intervals.size()];
+            for (int i = 0; i < intervals.size(); i++) {
+                starts[i] = EmployeeCalendar.toEpochSecond(intervals.get(i).getStartTime());
+                ends[i] = EmployeeCalendar.toEpochSecond(intervals.get(i).getEndTime());
+                meetingIds[i] = intervals.get(i).getId();
+            }
+            calendars.put(employeeId, EmployeeCalendar.of(starts, ends, meetingIds));
+        });
+    }
+
+    private FileChannel openSegment(long number) throws IOException {
+        return FileChannel.open(segmentPath(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private Path snapshotPath(long number) {
+        return directory.resolve(String.format("%s%016d%s", SNAPSHOT_PREFIX, number, SNAPSHOT_SUFFIX));
+    }
+
+    private List<Long> numbered(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(prefix) && name.endsWith(suffix))
+                    .map(name -> Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private record Append(List<Event> events, CompletableFuture<Void> written) {
+    }
+
+    private record Cut(long segmentNumber, Map<Long, EmployeeCalendar> calendars) {
+    }
+
+    private record Event(byte type, long meetingId, long start, long end, long[] participantIds) {
+
+        static Event of(byte type, Meeting meeting) {
+            return new Event(type, meeting.getId(), EmployeeCalendar.toEpochSecond(meeting.getStartTime()),
+                    EmployeeCalendar.toEpochSecond(meeting.getEndTime()),
+                    meeting.participantIds().stream().mapToLong(Long::longValue).toArray());
+        }
+
+        int encodedSize() {
+            return RECORD_HEADER_BYTES + Long.BYTES * participantIds.length + Integer.BYTES;
+        }
+
+        void encode(ByteBuffer buffer, CRC32 crc) {
+            int recordStart = buffer.position();
+            buffer.put(type).putLong(meetingId).putLong(start).putLong(end).putInt(participantIds.length);
+            for (long participantId : participantIds) {
+                buffer.putLong(participantId);
+            }
+            crc.reset();
+            crc.update(buffer.duplicate().position(recordStart).limit(buffer.position()));
+            buffer.putInt((int) crc.getValue());
+        }
+
+        // The next record, or null if it is torn or corrupt; the buffer is then left somewhere inside it
+        static Event decode(ByteBuffer buffer, CRC32 crc) {
+            int recordStart = buffer.position();
+            byte type = buffer.get();
+            long meetingId = buffer.getLong();
+            long start = buffer.getLong();
+            long end = buffer.getLong();
+            int count = buffer.getInt();
+            if ((type != BOOKED && type != CANCELLED) || count < 0
+                    || buffer.remaining() < (long) Long.BYTES * count + Integer.BYTES) {
+                return null;
+            }
+            long[] participantIds = new long[count];
+            for (int i = 0; i < count; i++) {
+                participantIds[i] = buffer.getLong();
+            }
+            crc.reset();
+            crc.update(buffer.duplicate().position(recordStart).limit(buffer.position()));
+            if (buffer.getInt() != (int) crc.getValue()) {
+                return null;
+            }
+            return new Event(type, meetingId, start, end, participantIds);
+        }
+    }
+}
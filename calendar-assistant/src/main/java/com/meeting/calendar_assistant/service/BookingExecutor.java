@@ -0,0 +1,16 @@
+package com.meeting.calendar_assistant.service;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Runs a write to an employee's calendar so that it cannot race with other writes to the same calendar.
+ * The implementation is selected with the {@code calendar.booking.concurrency} property.
+ */
+public interface BookingExecutor {
+
+    <T> T execute(Long employeeId, Supplier<T> calendarWrite);
+
+    // Same guarantee for a write spanning several calendars; employees are always claimed in ascending ID order
+    <T> T executeForAll(Collection<Long> employeeIds, Supplier<T> calendarWrite);
+}
@@ -0,0 +1,56 @@
+package com.meeting.calendar_assistant.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Reports the state of the calendar caches as the {@code calendarCache} component of {@code /actuator/health};
+ * the database is covered by Spring Boot's own {@code db} component.
+ * <p>
+ * The node is down when it has not caught up with other nodes' invalidations for longer than
+ * {@code calendar.health.max-invalidation-lag}, since its cached calendars may then accept double bookings
+ * that the database check has to reject.
+ */
+@Component
+public class CalendarCacheHealthIndicator implements HealthIndicator {
+
+    private final CalendarIndex calendarIndex;
+    private final EmployeeDirectory employeeDirectory;
+    private final CalendarInvalidationBus invalidationBus;
+    private final Duration maxInvalidationLag;
+
+    public CalendarCacheHealthIndicator(CalendarIndex calendarIndex, EmployeeDirectory employeeDirectory,
+                                        CalendarInvalidationBus invalidationBus,
+                                        @Value("${calendar.health.max-invalidation-lag:30s}") Duration maxInvalidationLag) {
+        this.calendarIndex = calendarIndex;
+        this.employeeDirectory = employeeDirectory;
+        this.invalidationBus = invalidationBus;
+        this.maxInvalidationLag = maxInvalidationLag;
+    }
+
+    @Override
+    public Health health() {
+        CacheStats stats = calendarIndex.stats();
+        Health.Builder health = Health.up()
+                .withDetail("cachedCalendars", calendarIndex.cachedCalendars())
+                .withDetail("calendarHitRate", stats.hitRate())
+                .withDetail("calendarLoadFailures", stats.loadFailureCount())
+                .withDetail("knownEmployees", employeeDirectory.cachedEmployees());
+
+        Instant lastCaughtUp = invalidationBus.lastCaughtUp();
+        if (lastCaughtUp != null) {
+            Duration lag = Duration.between(lastCaughtUp, Instant.now());
+            health.withDetail("invalidationLag", lag.toString());
+            if (lag.compareTo(maxInvalidationLag) > 0) {
+                health.down();
+            }
+        }
+        return health.build();
+    }
+}
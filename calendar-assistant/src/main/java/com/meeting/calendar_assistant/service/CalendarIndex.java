@@ -0,0 +1,243 @@
+package com.meeting.calendar_assistant.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.meeting.calendar_assistant.model.BusyInterval;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.repository.ReactiveMeetingRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Per-employee interval index used to answer conflict and free-slot queries without hitting the database.
+ * <p>
+ * Calendars are loaded on first use and kept in a bounded cache, evicted by size and by time since the
+ * last load. A calendar holds the single meetings the employee organizes or attends and the employee's recurring
+ * series, the latter as one rule each rather than one interval per occurrence. {@link MeetingService} applies every
+ * save and delete to a cached calendar in place, so a booking never forces a reload; calendars that are not cached
+ * are simply loaded fresh on the next read.
+ * <p>
+ * Loads go through JPA on the calling thread, or through R2DBC without blocking when the reactive profile
+ * provides a {@link ReactiveMeetingRepository}. Either way concurrent readers of the same calendar share one load.
+ * With the {@link BookingEventLog} engine, single meetings are taken from the log instead of the database, except
+ * for employees a log write has failed for.
+ * <p>
+ * With {@code calendar.cache.storage=off-heap} every cached calendar keeps its columns in direct memory, which
+ * keeps very large indexes out of the garbage collector's way; see {@link EmployeeCalendar#offHeap}.
+ */
+@Component
+public class CalendarIndex {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RecurringMeetingRepository recurringMeetingRepository;
+
+    @Autowired(required = false)
+    private ReactiveMeetingRepository reactiveMeetingRepository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Autowired(required = false)
+    private BookingEventLog bookingEventLog;
+
+    private final AsyncLoadingCache<Long, EmployeeCalendar> calendars;
+    private final boolean offHeap;
+
+    public CalendarIndex() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+    }
+
+    public CalendarIndex(long maximumSize, Duration ttl) {
+        this(maximumSize, ttl, "heap");
+    }
+
+    @Autowired
+    public CalendarIndex(@Value("${calendar.cache.calendars.maximum-size:10000}") long maximumSize,
+                         @Value("${calendar.cache.ttl:10m}") Duration ttl,
+                         @Value("${calendar.cache.storage:heap}") String storage) {
+        this.offHeap = switch (storage) {
+            case "heap" -> false;
+            case "off-heap" -> true;
+            default -> throw new IllegalStateException("Unknown calendar storage " + storage + ", expected heap or off-heap");
+        };
+        this.calendars = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync(this::load);
+    }
+
+    // Publishes hit, miss and eviction counts as cache.* meters tagged cache=employee-calendars
+    @PostConstruct
+    public void bindMetrics() {
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, calendars.synchronous(), "employee-calendars");
+        }
+    }
+
+    // A calendar cached before a failed log write lacks the change the write was for; the reload reads the database
+    @PostConstruct
+    public void followEventLog() {
+        if (bookingEventLog != null) {
+            bookingEventLog.onDiverged(this::evict);
+        }
+    }
+
+    // Both updates apply to the organizer's and every attendee's calendar. They are idempotent, so they are safe
+    // even if a concurrent load already saw the change; an update to a calendar that is still loading is applied
+    // once the load completes
+    public void add(Meeting meeting) {
+        long start = EmployeeCalendar.toEpochSecond(meeting.getStartTime());
+        long end = EmployeeCalendar.toEpochSecond(meeting.getEndTime());
+        for (Long participantId : meeting.participantIds()) {
+            calendars.asMap().computeIfPresent(participantId,
+                    (employeeId, calendar) -> calendar.thenApply(loaded -> loaded.withMeeting(meeting.getId(), start, end)));
+        }
+    }
+
+    public void remove(Meeting meeting) {
+        for (Long participantId : meeting.participantIds()) {
+            calendars.asMap().computeIfPresent(participantId,
+                    (employeeId, calendar) -> calendar.thenApply(loaded -> loaded.withoutMeeting(meeting.getId())));
+        }
+    }
+
+    // Adds a new series or replaces a changed one
+    public void addSeries(RecurringMeeting series) {
+        RecurrenceRule rule = RecurrenceRule.of(series);
+        calendars.asMap().computeIfPresent(series.getEmployee().getId(),
+                (employeeId, calendar) -> calendar.thenApply(loaded -> loaded.withSeries(rule)));
+    }
+
+    public void removeSeries(RecurringMeeting series) {
+        calendars.asMap().computeIfPresent(series.getEmployee().getId(),
+                (employeeId, calendar) -> calendar.thenApply(loaded -> loaded.withoutSeries(series.getId())));
+    }
+
+    // Drop an employee's calendar so the next read reloads it from the database
+    public void evict(Long employeeId) {
+        calendars.synchronous().invalidate(employeeId);
+    }
+
+    public EmployeeCalendar calendarOf(Long employeeId) {
+        return calendars.synchronous().get(employeeId);
+    }
+
+    // Non-blocking read; cancelling the subscription does not cancel a load shared with other readers
+    public Mono<EmployeeCalendar> reactiveCalendarOf(Long employeeId) {
+        return Mono.fromFuture(() -> calendars.get(employeeId), true);
+    }
+
+    // Whether a read would be served from memory; does not count towards the hit and miss statistics
+    public boolean isCached(Long employeeId) {
+        return calendars.asMap().containsKey(employeeId);
+    }
+
+    public long cachedCalendars() {
+        return calendars.synchronous().estimatedSize();
+    }
+
+    public CacheStats stats() {
+        return calendars.synchronous().stats();
+    }
+
+    public boolean hasOverlap(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        return calendarOf(employeeId).overlaps(
+                EmployeeCalendar.toEpochSecond(startTime), EmployeeCalendar.toEpochSecond(endTime));
+    }
+
+    // Retrieve the IDs of an employee's meetings overlapping the given window
+    public List<Long> findOverlapping(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        long[] ids = calendarOf(employeeId).overlapping(
+                EmployeeCalendar.toEpochSecond(startTime), EmployeeCalendar.toEpochSecond(endTime));
+        List<Long> result = new ArrayList<>(ids.length);
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    private CompletableFuture<EmployeeCalendar> load(Long employeeId, Executor executor) {
+        // Single meetings are already in the event log's memory, unless a write to it failed; only the series come
+        // from the database then
+        EmployeeCalendar logged = bookingEventLog == null ? null : bookingEventLog.calendarOf(employeeId);
+        if (logged != null) {
+            if (reactiveMeetingRepository != null) {
+                return reactiveMeetingRepository.findRecurringSeries(employeeId).collectList()
+                        .map(series -> place(withSeries(logged, series)))
+                        .toFuture();
+            }
+            try {
+                return CompletableFuture.completedFuture(place(withSeries(logged,
+                        recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(employeeId))));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        if (reactiveMeetingRepository != null) {
+            return Mono.zip(reactiveMeetingRepository.findBusyIntervals(employeeId).collectList(),
+                            reactiveMeetingRepository.findRecurringSeries(employeeId).collectList())
+                    .map(loaded -> place(toCalendar(loaded.getT1(), loaded.getT2())))
+                    .toFuture();
+        }
+        try {
+            List<BusyInterval> intervals = new ArrayList<>(meetingRepository.findBusyIntervalsByEmployee_Id(employeeId));
+            intervals.addAll(meetingRepository.findAttendedBusyIntervals(employeeId));
+            return CompletableFuture.completedFuture(place(toCalendar(intervals,
+                    recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(employeeId))));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Moves a freshly loaded calendar to the configured storage; updates applied later keep it there
+    private EmployeeCalendar place(EmployeeCalendar calendar) {
+        return offHeap ? calendar.offHeap() : calendar;
+    }
+
+    private static EmployeeCalendar withSeries(EmployeeCalendar calendar, List<RecurringMeeting> series) {
+        for (RecurringMeeting recurring : series) {
+            calendar = calendar.withSeries(RecurrenceRule.of(recurring));
+        }
+        return calendar;
+    }
+
+    private EmployeeCalendar toCalendar(List<BusyInterval> intervals, List<RecurringMeeting> series) {
+        if (intervals.isEmpty() && series.isEmpty()) {
+            return EmployeeCalendar.EMPTY;
+        }
+        int size = intervals.size();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            BusyInterval interval = intervals.get(i);
+            starts[i] = EmployeeCalendar.toEpochSecond(interval.getStartTime());
+            ends[i] = EmployeeCalendar.toEpochSecond(interval.getEndTime());
+            ids[i] = interval.getId();
+        }
+        return EmployeeCalendar.of(starts, ends, ids, series.stream().map(RecurrenceRule::of).toList());
+    }
+}
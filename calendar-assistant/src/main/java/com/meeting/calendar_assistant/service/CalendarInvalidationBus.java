@@ -0,0 +1,19 @@
+package com.meeting.calendar_assistant.service;
+
+import java.time.Instant;
+
+/**
+ * Tells the other nodes sharing the database that an employee's calendar changed, so they evict their cached copy
+ * from {@link CalendarIndex}. The implementation is selected with the {@code calendar.cache.invalidation.bus} property.
+ */
+public interface CalendarInvalidationBus {
+
+    // Called inside the write's transaction, so the change and its invalidation commit or roll back together;
+    // returns the version assigned to the change
+    long publish(Long employeeId);
+
+    // When this node last caught up with changes published by the others; null if they reach it immediately
+    default Instant lastCaughtUp() {
+        return null;
+    }
+}
@@ -0,0 +1,519 @@
+package com.meeting.calendar_assistant.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Immutable, start-sorted set of busy intervals for a single employee.
+ * <p>
+ * Intervals are stored as parallel primitive arrays of epoch seconds, indexed by an augmented interval tree
+ * laid over them implicitly: the interval at index i is node i + 1 of a binary tree in in-order, so node p
+ * with lowest set bit 2^h has height h and its subtree spans nodes p - 2^h + 1 to p + 2^h - 1. A fourth
+ * column holds the latest end in each node's subtree. An overlap probe binary searches for the intervals
+ * starting before the window and descends only into subtrees with an interval ending inside or after it.
+ * Asking whether anything overlaps is O(log n). Listing or counting the k overlapping intervals is
+ * O(log n + k) for those starting inside the window, plus O(log n) for each one that started before it and
+ * is still running, which a calendar without double bookings holds at most a few of. Updates return a new
+ * instance so readers never need to lock.
+ * <p>
+ * Recurring series are held as {@link RecurrenceRule}s next to the single meetings. Probes check them
+ * directly, and {@link #expand} turns them into plain intervals for one window, so consumers that walk
+ * the intervals only ever see the occurrences they asked about.
+ * <p>
+ * The columns live on the heap by default. {@link #offHeap} moves them into one direct buffer per calendar, so
+ * millions of meetings cost the garbage collector a handful of objects per employee instead of arrays it has to
+ * copy and scan; calendars derived from an off-heap calendar stay off-heap. The buffer has a few spare slots: a
+ * meeting added after the last one is written into the next spare slot and the new calendar shares the buffer,
+ * while other updates copy the columns buffer to buffer into a new one. The direct memory is released once every
+ * calendar sharing it becomes unreachable, and is reported as the {@code direct} JVM buffer pool.
+ */
+public final class EmployeeCalendar {
+
+    private static final RecurrenceRule[] NO_SERIES = new RecurrenceRule[0];
+
+    // Columns of an off-heap calendar, in the order they are laid out in its buffer
+    private static final int COLUMNS = 4;
+    // Spare slots per off-heap column: an eighth of the meetings, and at least this many
+    private static final int MIN_SPARE_SLOTS = 4;
+
+    public static final EmployeeCalendar EMPTY = new EmployeeCalendar(new long[0], new long[0], new long[0]);
+
+    private final int size;
+    private final LongBuffer starts;
+    private final LongBuffer ends;
+    private final LongBuffer meetingIds;
+    // Latest end in the subtree of each interval's node; for nodes whose subtree extends past size it may be
+    // higher than any of this calendar's ends, which only costs a descent that finds nothing
+    private final LongBuffer subtreeMaxEnds;
+    private final RecurrenceRule[] series;
+    // Off-heap only: how many slots of the shared columns this calendar or one derived from it has written
+    private final AtomicInteger filled;
+
+    private EmployeeCalendar(long[] starts, long[] ends, long[] meetingIds) {
+        this(starts, ends, meetingIds, NO_SERIES);
+    }
+
+    private EmployeeCalendar(long[] starts, long[] ends, long[] meetingIds, RecurrenceRule[] series) {
+        this.size = starts.length;
+        this.starts = LongBuffer.wrap(starts);
+        this.ends = LongBuffer.wrap(ends);
+        this.meetingIds = LongBuffer.wrap(meetingIds);
+        this.subtreeMaxEnds = LongBuffer.wrap(new long[size]);
+        this.series = series;
+        this.filled = null;
+        buildIndex();
+    }
+
+    // Shares the columns of the given calendar; their first size slots never change once written
+    private EmployeeCalendar(EmployeeCalendar columns, RecurrenceRule[] series) {
+        this(columns.size, columns.starts, columns.ends, columns.meetingIds, columns.subtreeMaxEnds, series,
+                columns.filled);
+    }
+
+    private EmployeeCalendar(int size, LongBuffer starts, LongBuffer ends, LongBuffer meetingIds,
+                             LongBuffer subtreeMaxEnds, RecurrenceRule[] series, AtomicInteger filled) {
+        this.size = size;
+        this.starts = starts;
+        this.ends = ends;
+        this.meetingIds = meetingIds;
+        this.subtreeMaxEnds = subtreeMaxEnds;
+        this.series = series;
+        this.filled = filled;
+    }
+
+    // Build a calendar from unsorted parallel arrays
+    public static EmployeeCalendar of(long[] starts, long[] ends, long[] meetingIds) {
+        return of(starts, ends, meetingIds, List.of());
+    }
+
+    public static EmployeeCalendar of(long[] starts, long[] ends, long[] meetingIds, List<RecurrenceRule> series) {
+        Integer[] order = new Integer[starts.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+
+        long[] sortedStarts = new long[order.length];
+        long[] sortedEnds = new long[order.length];
+        long[] sortedIds = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedStarts[i] = starts[order[i]];
+            sortedEnds[i] = ends[order[i]];
+            sortedIds[i] = meetingIds[order[i]];
+        }
+        return new EmployeeCalendar(sortedStarts, sortedEnds, sortedIds, series.toArray(NO_SERIES));
+    }
+
+    // Wrap start-sorted columns and their subtreeMaxEndAt index in place, such as a memory-mapped snapshot written by
+    // BookingEventLog; they must never change. Calendars derived from it keep their columns on the heap
+    public static EmployeeCalendar ofColumns(LongBuffer starts, LongBuffer ends, LongBuffer meetingIds,
+                                             LongBuffer subtreeMaxEnds) {
+        int size = starts.capacity();
+        return size == 0 ? EMPTY : new EmployeeCalendar(size, starts, ends, meetingIds, subtreeMaxEnds, NO_SERIES, null);
+    }
+
+    // Intervals of several calendars that overlap [start, end), merged into one start-sorted calendar
+    public static EmployeeCalendar merge(List<EmployeeCalendar> calendars, long start, long end) {
+        EmployeeCalendar merged = EMPTY;
+        for (EmployeeCalendar calendar : calendars) {
+            merged = merged.mergeWith(calendar.slice(start, end));
+        }
+        return merged;
+    }
+
+    public static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long startAt(int index) {
+        return starts.get(index);
+    }
+
+    public long endAt(int index) {
+        return ends.get(index);
+    }
+
+    public long meetingIdAt(int index) {
+        return meetingIds.get(index);
+    }
+
+    // The index column, for writing the calendar out to be wrapped again with ofColumns
+    public long subtreeMaxEndAt(int index) {
+        return subtreeMaxEnds.get(index);
+    }
+
+    public boolean isOffHeap() {
+        return filled != null;
+    }
+
+    // This calendar with its columns copied into direct memory, or this calendar if they already are
+    public EmployeeCalendar offHeap() {
+        if (isOffHeap()) {
+            return this;
+        }
+        EmployeeCalendar copy = allocateOffHeap(size, series);
+        copy.starts.put(0, starts, 0, size);
+        copy.ends.put(0, ends, 0, size);
+        copy.meetingIds.put(0, meetingIds, 0, size);
+        copy.subtreeMaxEnds.put(0, subtreeMaxEnds, 0, size);
+        return copy;
+    }
+
+    public int seriesCount() {
+        return series.length;
+    }
+
+    // This calendar if it has no recurring series, otherwise a calendar without series holding the single
+    // meetings and the occurrences that overlap [start, end)
+    public EmployeeCalendar expand(long start, long end) {
+        return series.length == 0 ? this : slice(start, end);
+    }
+
+    // Adding a meeting that is already present returns this calendar unchanged
+    public EmployeeCalendar withMeeting(long meetingId, long start, long end) {
+        int position = lowerBound(start);
+        for (int i = position; i < size && starts.get(i) == start; i++) {
+            if (meetingIds.get(i) == meetingId) {
+                return this;
+            }
+        }
+        if (isOffHeap()) {
+            return insertOffHeap(position, meetingId, start, end);
+        }
+        long[] newStarts = insertAt(starts, size, position, start);
+        long[] newEnds = insertAt(ends, size, position, end);
+        long[] newIds = insertAt(meetingIds, size, position, meetingId);
+        return new EmployeeCalendar(newStarts, newEnds, newIds, series);
+    }
+
+    public EmployeeCalendar withoutMeeting(long meetingId) {
+        for (int i = 0; i < size; i++) {
+            if (meetingIds.get(i) == meetingId) {
+                if (isOffHeap()) {
+                    return removeOffHeap(i);
+                }
+                return new EmployeeCalendar(removeAt(starts, size, i), removeAt(ends, size, i), removeAt(meetingIds, size, i),
+                        series);
+            }
+        }
+        return this;
+    }
+
+    // Adds the series, or replaces the one with the same ID
+    public EmployeeCalendar withSeries(RecurrenceRule rule) {
+        int index = indexOfSeries(rule.seriesId());
+        RecurrenceRule[] newSeries = index < 0 ? Arrays.copyOf(series, series.length + 1) : series.clone();
+        newSeries[index < 0 ? series.length : index] = rule;
+        return new EmployeeCalendar(this, newSeries);
+    }
+
+    public EmployeeCalendar withoutSeries(long seriesId) {
+        int index = indexOfSeries(seriesId);
+        if (index < 0) {
+            return this;
+        }
+        RecurrenceRule[] newSeries = new RecurrenceRule[series.length - 1];
+        System.arraycopy(series, 0, newSeries, 0, index);
+        System.arraycopy(series, index + 1, newSeries, index, series.length - index - 1);
+        return new EmployeeCalendar(this, newSeries);
+    }
+
+    // True if any interval or occurrence overlaps [start, end)
+    public boolean overlaps(long start, long end) {
+        if (size > 0 && anyEndingAfter(root(), lowerBound(end), start)) {
+            return true;
+        }
+        for (RecurrenceRule rule : series) {
+            if (rule.overlaps(start, end)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // How many single meetings overlap [start, end); recurring series are not counted
+    public int countOverlapping(long start, long end) {
+        return size == 0 ? 0 : collectEndingAfter(root(), lowerBound(end), start, null, 0);
+    }
+
+    // Meeting and series IDs of every interval or occurrence overlapping [start, end), in start order;
+    // a series is listed once however many of its occurrences overlap
+    public long[] overlapping(long start, long end) {
+        if (series.length > 0) {
+            return Arrays.stream(slice(start, end).overlapping(start, end)).distinct().toArray();
+        }
+        int[] matches = indicesOverlapping(start, end);
+        long[] ids = new long[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            ids[i] = meetingIds.get(matches[i]);
+        }
+        return ids;
+    }
+
+    // Index of the first interval that is still running at the given instant, or size if none is. Intervals after
+    // it may have ended already; callers walking forward from here skip them one by one.
+    public int firstEndingAfter(long instant) {
+        int node = size == 0 ? 0 : firstEndingAfter(root(), instant);
+        return node == 0 ? size : node - 1;
+    }
+
+    // Index of the first interval whose start is >= the given instant
+    public int lowerBound(long instant) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts.get(mid) < instant) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Intervals and occurrences overlapping [start, end), as a calendar without series
+    private EmployeeCalendar slice(long start, long end) {
+        int[] matches = indicesOverlapping(start, end);
+        long[] slicedStarts = new long[matches.length];
+        long[] slicedEnds = new long[matches.length];
+        long[] slicedIds = new long[matches.length];
+        for (int i = 0; i < matches.length; i++) {
+            slicedStarts[i] = starts.get(matches[i]);
+            slicedEnds[i] = ends.get(matches[i]);
+            slicedIds[i] = meetingIds.get(matches[i]);
+        }
+        EmployeeCalendar sliced = new EmployeeCalendar(slicedStarts, slicedEnds, slicedIds);
+        for (RecurrenceRule rule : series) {
+            sliced = sliced.mergeWith(occurrencesOf(rule, start, end));
+        }
+        return sliced;
+    }
+
+    // Indices of the single meetings overlapping [start, end), in start order: one pass to size the array, one to fill it
+    private int[] indicesOverlapping(long start, long end) {
+        if (size == 0) {
+            return new int[0];
+        }
+        int limit = lowerBound(end);
+        int[] matches = new int[collectEndingAfter(root(), limit, start, null, 0)];
+        collectEndingAfter(root(), limit, start, matches, 0);
+        return matches;
+    }
+
+    // The node whose subtree spans every interval: the highest power of two not above size
+    private int root() {
+        return Integer.highestOneBit(size);
+    }
+
+    // Whether any of the first limit intervals in the node's subtree ends after the instant
+    private boolean anyEndingAfter(int node, int limit, long instant) {
+        int lowest = node & -node;
+        if (node - lowest + 1 > limit || (node <= size && subtreeMaxEnds.get(node - 1) <= instant)) {
+            return false;
+        }
+        if (node + lowest - 1 <= limit) {
+            // The whole subtree is among the first limit intervals, so its maximum is exact
+            return true;
+        }
+        int half = lowest >>> 1;
+        return anyEndingAfter(node - half, limit, instant)
+                || (node <= limit && (ends.get(node - 1) > instant || anyEndingAfter(node + half, limit, instant)));
+    }
+
+    // Adds the indices of the first limit intervals in the node's subtree that end after the instant to matches, in
+    // index order from count on, and returns the new count; without matches it only counts them
+    private int collectEndingAfter(int node, int limit, long instant, int[] matches, int count) {
+        int lowest = node & -node;
+        if (node - lowest + 1 > limit || (node <= size && subtreeMaxEnds.get(node - 1) <= instant)) {
+            return count;
+        }
+        int half = lowest >>> 1;
+        if (half > 0) {
+            count = collectEndingAfter(node - half, limit, instant, matches, count);
+        }
+        if (node <= limit) {
+            if (ends.get(node - 1) > instant) {
+                if (matches != null) {
+                    matches[count] = node - 1;
+                }
+                count++;
+            }
+            if (half > 0) {
+                count = collectEndingAfter(node + half, limit, instant, matches, count);
+            }
+        }
+        return count;
+    }
+
+    // The first node in the subtree whose interval ends after the instant, or 0
+    private int firstEndingAfter(int node, long instant) {
+        int lowest = node & -node;
+        if (node - lowest + 1 > size || (node <= size && subtreeMaxEnds.get(node - 1) <= instant)) {
+            return 0;
+        }
+        int half = lowest >>> 1;
+        int found = half == 0 ? 0 : firstEndingAfter(node - half, instant);
+        if (found == 0 && node <= size) {
+            found = ends.get(node - 1) > instant ? node : half == 0 ? 0 : firstEndingAfter(node + half, instant);
+        }
+        return found;
+    }
+
+    private static EmployeeCalendar occurrencesOf(RecurrenceRule rule, long start, long end) {
+        long[] occurrenceStarts = rule.occurrencesOverlapping(start, end);
+        long[] occurrenceEnds = new long[occurrenceStarts.length];
+        long[] seriesIds = new long[occurrenceStarts.length];
+        for (int i = 0; i < occurrenceStarts.length; i++) {
+            occurrenceEnds[i] = occurrenceStarts[i] + rule.durationSeconds();
+            seriesIds[i] = rule.seriesId();
+        }
+        return new EmployeeCalendar(occurrenceStarts, occurrenceEnds, seriesIds);
+    }
+
+    private int indexOfSeries(long seriesId) {
+        for (int i = 0; i < series.length; i++) {
+            if (series[i].seriesId() == seriesId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private EmployeeCalendar mergeWith(EmployeeCalendar other) {
+        if (other.size() == 0) {
+            return this;
+        }
+        if (size() == 0) {
+            return other;
+        }
+        int size = size() + other.size();
+        long[] mergedStarts = new long[size];
+        long[] mergedEnds = new long[size];
+        long[] mergedIds = new long[size];
+        int left = 0;
+        int right = 0;
+        for (int i = 0; i < size; i++) {
+            EmployeeCalendar source;
+            int index;
+            if (right >= other.size() || (left < size() && starts.get(left) <= other.starts.get(right))) {
+                source = this;
+                index = left++;
+            } else {
+                source = other;
+                index = right++;
+            }
+            mergedStarts[i] = source.starts.get(index);
+            mergedEnds[i] = source.ends.get(index);
+            mergedIds[i] = source.meetingIds.get(index);
+        }
+        return new EmployeeCalendar(mergedStarts, mergedEnds, mergedIds);
+    }
+
+    // Calendars sharing the columns only read their first size slots, so the next spare slot can be written in place
+    // unless another calendar already took it; every other insert copies into new columns
+    private EmployeeCalendar insertOffHeap(int position, long meetingId, long start, long end) {
+        if (position == size && size < starts.capacity() && filled.compareAndSet(size, size + 1)) {
+            starts.put(size, start);
+            ends.put(size, end);
+            meetingIds.put(size, meetingId);
+            indexAppended(size + 1, end);
+            return new EmployeeCalendar(size + 1, starts, ends, meetingIds, subtreeMaxEnds, series, filled);
+        }
+        EmployeeCalendar copy = allocateOffHeap(size + 1, series);
+        copy.starts.put(0, starts, 0, position).put(position, start).put(position + 1, starts, position, size - position);
+        copy.ends.put(0, ends, 0, position).put(position, end).put(position + 1, ends, position, size - position);
+        copy.meetingIds.put(0, meetingIds, 0, position).put(position, meetingId)
+                .put(position + 1, meetingIds, position, size - position);
+        copy.buildIndex();
+        return copy;
+    }
+
+    // Dropping the last meeting shares the columns; its slot stays taken, so no later insert can overwrite it, and
+    // its end stays in the maxima of the subtrees that spanned it
+    private EmployeeCalendar removeOffHeap(int position) {
+        if (position == size - 1) {
+            return new EmployeeCalendar(size - 1, starts, ends, meetingIds, subtreeMaxEnds, series, filled);
+        }
+        EmployeeCalendar copy = allocateOffHeap(size - 1, series);
+        copy.starts.put(0, starts, 0, position).put(position, starts, position + 1, size - position - 1);
+        copy.ends.put(0, ends, 0, position).put(position, ends, position + 1, size - position - 1);
+        copy.meetingIds.put(0, meetingIds, 0, position).put(position, meetingIds, position + 1, size - position - 1);
+        copy.buildIndex();
+        return copy;
+    }
+
+    // An off-heap calendar of the given size with spare slots, for the caller to fill in before publishing it
+    private static EmployeeCalendar allocateOffHeap(int size, RecurrenceRule[] series) {
+        int capacity = size + Math.max(MIN_SPARE_SLOTS, size >> 3);
+        LongBuffer columns = ByteBuffer.allocateDirect(COLUMNS * capacity * Long.BYTES).order(ByteOrder.nativeOrder())
+                .asLongBuffer();
+        return new EmployeeCalendar(size, columns.slice(0, capacity), columns.slice(capacity, capacity),
+                columns.slice(2 * capacity, capacity), columns.slice(3 * capacity, capacity), series, new AtomicInteger(size));
+    }
+
+    // Fills in the subtree maxima from the ends, in O(n)
+    private void buildIndex() {
+        if (size > 0) {
+            buildIndex(root());
+        }
+    }
+
+    private long buildIndex(int node) {
+        int lowest = node & -node;
+        if (node - lowest + 1 > size) {
+            return Long.MIN_VALUE;
+        }
+        int half = lowest >>> 1;
+        long max = half == 0 ? Long.MIN_VALUE : Math.max(buildIndex(node - half), buildIndex(node + half));
+        if (node <= size) {
+            max = Math.max(max, ends.get(node - 1));
+            subtreeMaxEnds.put(node - 1, max);
+        }
+        return max;
+    }
+
+    // Takes a new last interval into the index: its own node gets the maximum of its left subtree, which is complete,
+    // and every ancestor already written takes the new end. Ancestors still beyond the last interval are filled in
+    // from their own left subtree when they are appended in turn.
+    private void indexAppended(int node, long end) {
+        int lowest = node & -node;
+        subtreeMaxEnds.put(node - 1, lowest == 1 ? end : Math.max(end, subtreeMaxEnds.get(node - (lowest >>> 1) - 1)));
+        for (int ancestor = node, root = Integer.highestOneBit(node); ancestor != root; ) {
+            int bit = ancestor & -ancestor;
+            ancestor = (ancestor - bit) | (bit << 1);
+            if (ancestor < node) {
+                subtreeMaxEnds.put(ancestor - 1, Math.max(subtreeMaxEnds.get(ancestor - 1), end));
+            }
+        }
+    }
+
+    private static long[] insertAt(LongBuffer source, int length, int position, long value) {
+        long[] target = new long[length + 1];
+        source.get(0, target, 0, position);
+        target[position] = value;
+        source.get(position, target, position + 1, length - position);
+        return target;
+    }
+
+    private static long[] removeAt(LongBuffer source, int length, int position) {
+        long[] target = new long[length - 1];
+        source.get(0, target, 0, position);
+        source.get(position + 1, target, position, length - position - 1);
+        return target;
+    }
+}
@@ -0,0 +1,75 @@
+package com.meeting.calendar_assistant.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Bounded cache of employee IDs known to exist, so bookings can reference an employee without loading it.
+ * Only positive lookups are cached; an unknown ID is checked against the database every time.
+ */
+@Component
+public class EmployeeDirectory {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Cache<Long, Boolean> knownEmployees;
+
+    public EmployeeDirectory() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL);
+    }
+
+    @Autowired
+    public EmployeeDirectory(@Value("${calendar.cache.employees.maximum-size:100000}") long maximumSize,
+                             @Value("${calendar.cache.ttl:10m}") Duration ttl) {
+        this.knownEmployees = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void bindMetrics() {
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, knownEmployees, "known-employees");
+        }
+    }
+
+    public boolean exists(Long employeeId) {
+        return knownEmployees.get(employeeId, id -> employeeRepository.existsById(id) ? Boolean.TRUE : null) != null;
+    }
+
+    // An uninitialised reference to an existing employee, suitable for setting a foreign key
+    public Employee referenceTo(Long employeeId) {
+        if (!exists(employeeId)) {
+            throw new EmployeeNotFoundException("Employee not found");
+        }
+        return employeeRepository.getReferenceById(employeeId);
+    }
+
+    public void evict(Long employeeId) {
+        knownEmployees.invalidate(employeeId);
+    }
+
+    public long cachedEmployees() {
+        return knownEmployees.estimatedSize();
+    }
+}
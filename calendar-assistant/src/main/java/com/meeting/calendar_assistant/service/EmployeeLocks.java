@@ -0,0 +1,74 @@
+package com.meeting.calendar_assistant.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped per-employee locks. Writes to the same employee's calendar are serialized while writes
+ * for employees that hash to different stripes proceed in parallel, without a lock object per employee.
+ */
+@Component
+public class EmployeeLocks {
+
+    private final Lock[] stripes;
+
+    public EmployeeLocks(@Value("${calendar.booking.lock-stripes:256}") int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Lock stripe count must be a power of two: " + stripeCount);
+        }
+        stripes = new Lock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(Long employeeId) {
+        return stripes[stripeOf(employeeId)];
+    }
+
+    public <T> T withLock(Long employeeId, Supplier<T> action) {
+        Lock lock = lockFor(employeeId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Stripes are acquired in ascending stripe order, so two multi-employee writes can never deadlock
+    public <T> T withLocks(Collection<Long> employeeIds, Supplier<T> action) {
+        TreeSet<Integer> stripeIndexes = new TreeSet<>();
+        for (Long employeeId : employeeIds) {
+            stripeIndexes.add(stripeOf(employeeId));
+        }
+
+        Deque<Lock> held = new ArrayDeque<>(stripeIndexes.size());
+        try {
+            for (int stripeIndex : stripeIndexes) {
+                Lock lock = stripes[stripeIndex];
+                lock.lock();
+                held.push(lock);
+            }
+            return action.get();
+        } finally {
+            while (!held.isEmpty()) {
+                held.pop().unlock();
+            }
+        }
+    }
+
+    private int stripeOf(Long employeeId) {
+        int hash = Long.hashCode(employeeId);
+        hash ^= hash >>> 16;
+        return hash & (stripes.length - 1);
+    }
+}
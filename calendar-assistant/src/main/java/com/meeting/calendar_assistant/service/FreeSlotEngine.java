@@ -0,0 +1,14 @@
+package com.meeting.calendar_assistant.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Strategy for finding slots in which every participant is free.
+ * The implementation is selected with the {@code calendar.free-slots.engine} property.
+ */
+public interface FreeSlotEngine {
+
+    FreeSlots findFreeSlots(Map<Long, EmployeeCalendar> calendarsByEmployee, LocalDateTime from, LocalDateTime to,
+                            int durationInMinutes, int granularityInMinutes);
+}
@@ -0,0 +1,99 @@
+package com.meeting.calendar_assistant.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Finds slots in which every participant is free.
+ * <p>
+ * Each participant's calendar is already sorted by start time, so the busy timeline is produced by a
+ * heap-based k-way merge of the calendars rather than by concatenating and re-sorting them. The sweep
+ * runs in O(m log k) for k participants, where m counts each calendar's meetings from
+ * {@link EmployeeCalendar#firstEndingAfter} to the end of the horizon; that includes meetings that ended
+ * before the horizon when an earlier one runs past them. Free gaps are collected as epoch-minute
+ * ranges in {@link FreeSlots} instead of one {@code LocalDateTime} per slot.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.free-slots.engine", havingValue = "sweep", matchIfMissing = true)
+public class FreeSlotFinder implements FreeSlotEngine {
+
+    @Override
+    public FreeSlots findFreeSlots(Map<Long, EmployeeCalendar> calendarsByEmployee, LocalDateTime from, LocalDateTime to,
+                                   int durationInMinutes, int granularityInMinutes) {
+        return findFreeSlots(new ArrayList<>(calendarsByEmployee.values()), from, to, durationInMinutes, granularityInMinutes);
+    }
+
+    public FreeSlots findFreeSlots(List<EmployeeCalendar> calendars, LocalDateTime from, LocalDateTime to,
+                                   int durationInMinutes, int granularityInMinutes) {
+        long horizonStart = EmployeeCalendar.toEpochSecond(from);
+        long horizonEnd = EmployeeCalendar.toEpochSecond(to);
+
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, calendars.size()));
+        for (EmployeeCalendar participantCalendar : calendars) {
+            EmployeeCalendar calendar = participantCalendar.expand(horizonStart, horizonEnd);
+            int position = calendar.firstEndingAfter(horizonStart);
+            if (position < calendar.size()) {
+                heap.add(new Cursor(calendar, position));
+            }
+        }
+
+        FreeSlots.Builder freeSlots = new FreeSlots.Builder(granularityInMinutes);
+        long freeFrom = horizonStart;
+        while (!heap.isEmpty()) {
+            Cursor cursor = heap.poll();
+            long busyStart = cursor.start();
+            if (busyStart >= horizonEnd) {
+                break;
+            }
+            if (busyStart > freeFrom) {
+                addFreeSlots(freeSlots, freeFrom, busyStart, durationInMinutes);
+            }
+            freeFrom = Math.max(freeFrom, cursor.end());
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+        if (freeFrom < horizonEnd) {
+            addFreeSlots(freeSlots, freeFrom, horizonEnd, durationInMinutes);
+        }
+        return freeSlots.build();
+    }
+
+    // The gap is narrowed to whole minutes; slots are aligned to the granularity grid and may end exactly when it ends
+    private void addFreeSlots(FreeSlots.Builder freeSlots, long gapStart, long gapEnd, int durationInMinutes) {
+        freeSlots.addAligned(FreeSlots.ceilEpochMinute(gapStart), FreeSlots.floorEpochMinute(gapEnd), durationInMinutes);
+    }
+
+    private static final class Cursor implements Comparable<Cursor> {
+        private final EmployeeCalendar calendar;
+        private int position;
+
+        private Cursor(EmployeeCalendar calendar, int position) {
+            this.calendar = calendar;
+            this.position = position;
+        }
+
+        long start() {
+            return calendar.startAt(position);
+        }
+
+        long end() {
+            return calendar.endAt(position);
+        }
+
+        boolean advance() {
+            return ++position < calendar.size();
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(start(), other.start());
+        }
+    }
+}
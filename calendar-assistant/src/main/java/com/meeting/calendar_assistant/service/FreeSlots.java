@@ -0,0 +1,177 @@
+package com.meeting.calendar_assistant.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Compact, immutable result of a free-slot search.
+ * <p>
+ * Free time is held as ranges of epoch minutes: each range is a free gap {@code [gapStart, gapEnd)} plus the
+ * first and last slot start inside it, with slots repeating every {@code step} minutes. The class is also a
+ * read-only {@code List<LocalDateTime>} of every slot start, but those values are only created when an
+ * element is read, typically by Jackson while writing the response.
+ */
+public final class FreeSlots extends AbstractList<LocalDateTime> implements RandomAccess {
+
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final int stepMinutes;
+    private final int rangeCount;
+    private final long[] gapStarts;
+    private final long[] gapEnds;
+    private final long[] firstSlots;
+    // Number of slots in ranges 0..r, so the range holding slot i can be found by binary search
+    private final int[] cumulativeCounts;
+
+    private FreeSlots(int stepMinutes, int rangeCount, long[] gapStarts, long[] gapEnds, long[] firstSlots,
+                      int[] cumulativeCounts) {
+        this.stepMinutes = stepMinutes;
+        this.rangeCount = rangeCount;
+        this.gapStarts = gapStarts;
+        this.gapEnds = gapEnds;
+        this.firstSlots = firstSlots;
+        this.cumulativeCounts = cumulativeCounts;
+    }
+
+    public static long floorEpochMinute(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_MINUTE);
+    }
+
+    public static long ceilEpochMinute(long epochSecond) {
+        return -Math.floorDiv(-epochSecond, SECONDS_PER_MINUTE);
+    }
+
+    public static LocalDateTime fromEpochMinute(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+
+    public int stepMinutes() {
+        return stepMinutes;
+    }
+
+    public int rangeCount() {
+        return rangeCount;
+    }
+
+    public long gapStartMinute(int range) {
+        return gapStarts[range];
+    }
+
+    public long gapEndMinute(int range) {
+        return gapEnds[range];
+    }
+
+    public long firstSlotMinute(int range) {
+        return firstSlots[range];
+    }
+
+    public int slotCount(int range) {
+        return cumulativeCounts[range] - (range == 0 ? 0 : cumulativeCounts[range - 1]);
+    }
+
+    @Override
+    public int size() {
+        return rangeCount == 0 ? 0 : cumulativeCounts[rangeCount - 1];
+    }
+
+    @Override
+    public LocalDateTime get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int low = 0;
+        int high = rangeCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulativeCounts[mid] <= index) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int offset = index - (low == 0 ? 0 : cumulativeCounts[low - 1]);
+        return fromEpochMinute(firstSlots[low] + (long) offset * stepMinutes);
+    }
+
+    // Sequential walk without the per-element binary search of get()
+    @Override
+    public Iterator<LocalDateTime> iterator() {
+        return new Iterator<>() {
+            private int range;
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public LocalDateTime next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (cumulativeCounts[range] <= index) {
+                    range++;
+                }
+                int offset = index++ - (range == 0 ? 0 : cumulativeCounts[range - 1]);
+                return fromEpochMinute(firstSlots[range] + (long) offset * stepMinutes);
+            }
+        };
+    }
+
+    /**
+     * Accumulates gaps in ascending order. Gaps in which no slot fits are dropped.
+     */
+    public static final class Builder {
+        private final int stepMinutes;
+        private int rangeCount;
+        private long[] gapStarts = new long[8];
+        private long[] gapEnds = new long[8];
+        private long[] firstSlots = new long[8];
+        private int[] cumulativeCounts = new int[8];
+        private int total;
+
+        public Builder(int stepMinutes) {
+            this.stepMinutes = stepMinutes;
+        }
+
+        // Slots start on the step grid and may end exactly when the gap ends
+        public Builder addAligned(long gapStart, long gapEnd, int durationInMinutes) {
+            long firstSlot = Math.floorDiv(gapStart + stepMinutes - 1, stepMinutes) * stepMinutes;
+            long lastSlot = Math.floorDiv(gapEnd - durationInMinutes, stepMinutes) * stepMinutes;
+            return add(gapStart, gapEnd, firstSlot, lastSlot);
+        }
+
+        // Slots at firstSlot, firstSlot + step, ... up to and including lastSlot
+        public Builder add(long gapStart, long gapEnd, long firstSlot, long lastSlot) {
+            if (lastSlot < firstSlot) {
+                return this;
+            }
+            if (rangeCount == gapStarts.length) {
+                int capacity = rangeCount * 2;
+                gapStarts = Arrays.copyOf(gapStarts, capacity);
+                gapEnds = Arrays.copyOf(gapEnds, capacity);
+                firstSlots = Arrays.copyOf(firstSlots, capacity);
+                cumulativeCounts = Arrays.copyOf(cumulativeCounts, capacity);
+            }
+            total = Math.addExact(total, Math.toIntExact((lastSlot - firstSlot) / stepMinutes + 1));
+            gapStarts[rangeCount] = gapStart;
+            gapEnds[rangeCount] = gapEnd;
+            firstSlots[rangeCount] = firstSlot;
+            cumulativeCounts[rangeCount] = total;
+            rangeCount++;
+            return this;
+        }
+
+        public FreeSlots build() {
+            return new FreeSlots(stepMinutes, rangeCount, Arrays.copyOf(gapStarts, rangeCount),
+                    Arrays.copyOf(gapEnds, rangeCount), Arrays.copyOf(firstSlots, rangeCount),
+                    Arrays.copyOf(cumulativeCounts, rangeCount));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.meeting.calendar_assistant.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers invalidations synchronously to every application context running in this JVM.
+ * <p>
+ * Enough for a single node, and lets tests run several contexts side by side; replicas in separate
+ * processes need {@link OutboxInvalidationBus}.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.cache.invalidation.bus", havingValue = "in-jvm", matchIfMissing = true)
+public class InJvmInvalidationBus implements CalendarInvalidationBus {
+
+    private static final List<InJvmInvalidationBus> NODES = new CopyOnWriteArrayList<>();
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final CalendarIndex calendarIndex;
+
+    public InJvmInvalidationBus(CalendarIndex calendarIndex) {
+        this.calendarIndex = calendarIndex;
+    }
+
+    @PostConstruct
+    public void join() {
+        NODES.add(this);
+    }
+
+    @PreDestroy
+    public void leave() {
+        NODES.remove(this);
+    }
+
+    // The other nodes are only told once the transaction commits, or they could reload the calendar without the change
+    @Override
+    public long publish(Long employeeId) {
+        long version = VERSIONS.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictElsewhere(employeeId);
+                }
+            });
+        } else {
+            evictElsewhere(employeeId);
+        }
+        return version;
+    }
+
+    private void evictElsewhere(Long employeeId) {
+        for (InJvmInvalidationBus node : NODES) {
+            if (node != this) {
+                node.calendarIndex.evict(employeeId);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.meeting.calendar_assistant.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets through at most one log event per interval for events that can happen on every request, such as
+ * booking conflicts. A suppressed event costs one volatile read and one counter increment; the event that is
+ * let through reports how many were suppressed since the previous one.
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final AtomicLong nextAllowedNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextAllowedNanos = new AtomicLong(System.nanoTime());
+    }
+
+    // Events suppressed since the last one let through, or -1 if this one should be suppressed too
+    public long sample() {
+        long now = System.nanoTime();
+        long nextAllowed = nextAllowedNanos.get();
+        if (now - nextAllowed >= 0 && nextAllowedNanos.compareAndSet(nextAllowed, now + intervalNanos)) {
+            return suppressed.sumThenReset();
+        }
+        suppressed.increment();
+        return -1;
+    }
+}
@@ -0,0 +1,154 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.model.ArchivedMeeting;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingHistoryEntry;
+import com.meeting.calendar_assistant.repository.ArchivedMeetingRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Hot/cold tiering of single meetings.
+ * <p>
+ * A scheduled job moves meetings that ended more than {@code calendar.archive.max-age} ago from the {@code meeting}
+ * table into {@code meeting_archive}, one batch per transaction, and drops them from the cached calendars. Calendar
+ * loads, conflict checks and free-slot searches only ever read the {@code meeting} table, so their cost follows the
+ * current schedule rather than years of history. The history API reads both tiers. Recurring series stay in the hot
+ * tier as one row each.
+ */
+@Service
+public class MeetingArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingArchiveService.class);
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Autowired
+    private EmployeeDirectory employeeDirectory;
+
+    @Autowired
+    private CalendarIndex calendarIndex;
+
+    @Autowired
+    private CalendarInvalidationBus invalidationBus;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired(required = false)
+    private BookingEventLog bookingEventLog;
+
+    @Value("${calendar.archive.max-age:30d}")
+    private Duration maxAge;
+
+    @Value("${calendar.archive.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${calendar.archive.interval-ms:3600000}",
+            initialDelayString = "${calendar.archive.interval-ms:3600000}")
+    public long archive() {
+        return archiveEndedBefore(LocalDateTime.now().minus(maxAge));
+    }
+
+    // Move every meeting that ended before the cutoff to the archive; returns how many were moved
+    public long archiveEndedBefore(LocalDateTime cutoff) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long archived = 0;
+        List<Meeting> batch;
+        do {
+            batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            // Only once the batch is committed, so a rolled back batch is still in every calendar
+            for (Meeting meeting : batch) {
+                if (bookingEventLog != null) {
+                    try {
+                        bookingEventLog.cancelled(meeting).join();
+                    } catch (CompletionException e) {
+                        // The log has marked the calendars diverged, so they are read from the database
+                        logger.warn("Booking event log write failed for archived meeting={}", meeting.getId(), e.getCause());
+                    }
+                }
+                calendarIndex.remove(meeting);
+            }
+            archived += batch.size();
+        } while (batch.size() == batchSize);
+        if (archived > 0) {
+            logger.info("Archived {} meetings that ended before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    // An employee's meetings from both tiers overlapping [from, to), organized or attended, in start order
+    public List<MeetingHistoryEntry> findHistory(Long employeeId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        if (!employeeDirectory.exists(employeeId)) {
+            throw new EmployeeNotFoundException("Employee not found");
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            // Keyed by ID: a meeting archived between the two reads would otherwise be listed twice
+            Map<Long, MeetingHistoryEntry> entries = new LinkedHashMap<>();
+            List<Meeting> hot = new ArrayList<>(meetingRepository.findOverlapping(employeeId, from, to));
+            hot.addAll(meetingRepository.findAttendedOverlapping(employeeId, from, to));
+            for (Meeting meeting : hot) {
+                entries.put(meeting.getId(), toEntry(meeting));
+            }
+            List<ArchivedMeeting> cold = new ArrayList<>(archivedMeetingRepository.findOrganizedOverlapping(employeeId, from, to));
+            cold.addAll(archivedMeetingRepository.findAttendedOverlapping(employeeId, from, to));
+            for (ArchivedMeeting meeting : cold) {
+                entries.put(meeting.getId(), toEntry(meeting));
+            }
+            List<MeetingHistoryEntry> history = new ArrayList<>(entries.values());
+            history.sort(Comparator.comparing(MeetingHistoryEntry::getStartTime).thenComparing(MeetingHistoryEntry::getId));
+            return history;
+        });
+    }
+
+    private List<Meeting> archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = meetingRepository.findIdsEndedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Meeting> meetings = meetingRepository.findWithAttendeesByIdIn(ids);
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedMeetingRepository.saveAll(meetings.stream().map(meeting -> new ArchivedMeeting(meeting, archivedAt)).toList());
+        meetingRepository.deleteAll(meetings);
+        meetings.stream().flatMap(meeting -> meeting.participantIds().stream()).forEach(invalidationBus::publish);
+        return meetings;
+    }
+
+    private static MeetingHistoryEntry toEntry(Meeting meeting) {
+        List<Long> participantIds = meeting.participantIds();
+        return new MeetingHistoryEntry(meeting.getId(), participantIds.get(0), participantIds.subList(1, participantIds.size()),
+                meeting.getStartTime(), meeting.getEndTime(), meeting.getTitle(), false);
+    }
+
+    private static MeetingHistoryEntry toEntry(ArchivedMeeting meeting) {
+        return new MeetingHistoryEntry(meeting.getId(), meeting.getEmployeeId(), List.copyOf(meeting.getAttendeeIds()),
+                meeting.getStartTime(), meeting.getEndTime(), meeting.getTitle(), true);
+    }
+}
@@ -0,0 +1,96 @@
+package com.meeting.calendar_assistant.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.calendar_assistant.model.MeetingExportRow;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes meetings in a time range straight to an output stream. Rows are streamed from a database cursor
+ * as flat projections and written one at a time, so memory use does not grow with the size of the export.
+ */
+@Service
+public class MeetingExportService {
+
+    public enum Format { NDJSON, CSV }
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Meetings starting in [from, to); an empty or reversed window is rejected before anything is written
+    public long exportMeetings(LocalDateTime from, LocalDateTime to, Format format, OutputStream output) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            try (Stream<MeetingExportRow> rows = meetingRepository.streamExportRows(from, to)) {
+                return format == Format.CSV ? writeCsv(rows.iterator(), output) : writeNdjson(rows.iterator(), output);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long writeNdjson(Iterator<MeetingExportRow> rows, OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long count = 0;
+        while (rows.hasNext()) {
+            objectMapper.writeValue(generator, rows.next());
+            generator.writeRaw('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                generator.flush();
+            }
+        }
+        generator.flush();
+        return count;
+    }
+
+    private long writeCsv(Iterator<MeetingExportRow> rows, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write("id,employeeId,startTime,endTime,title\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            MeetingExportRow row = rows.next();
+            writer.write(row.getId() + "," + row.getEmployeeId() + "," + row.getStartTime() + ","
+                    + row.getEndTime() + "," + escapeCsv(row.getTitle()) + "\n");
+            if (++count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,252 @@
+package com.meeting.calendar_assistant.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingImportResult;
+import com.meeting.calendar_assistant.model.MeetingImportResult.Status;
+import com.meeting.calendar_assistant.model.MeetingRequest;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Streams NDJSON meeting records into the database in chunks.
+ * <p>
+ * Each chunk is grouped by employee and sorted by start time, then checked against the employee's existing
+ * meetings in the chunk's time range (one bounded query per employee), against the employee's recurring series
+ * and against the chunk's own earlier records with a merge walk. Accepted meetings are persisted in a single
+ * transaction so Hibernate can send them as JDBC batches. One result line is written per input line, in input order.
+ */
+@Service
+public class MeetingImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingImportService.class);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private RecurringMeetingRepository recurringMeetingRepository;
+
+    @Autowired
+    private CalendarIndex calendarIndex;
+
+    @Autowired
+    private BookingExecutor bookingExecutor;
+
+    @Autowired
+    private CalendarInvalidationBus invalidationBus;
+
+    @Autowired(required = false)
+    private BookingEventLog bookingEventLog;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${calendar.import.chunk-size:1000}")
+    private int chunkSize;
+
+    public void importMeetings(InputStream ndjson, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        JsonGenerator results = objectMapper.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        List<PendingRecord> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        long imported = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            chunk.add(parse(lineNumber, line));
+            if (chunk.size() == chunkSize) {
+                imported += importChunk(chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += importChunk(chunk, results);
+        }
+        logger.info("Imported {} meetings from {} lines", imported, lineNumber);
+    }
+
+    private PendingRecord parse(long lineNumber, String line) {
+        PendingRecord record = new PendingRecord(lineNumber);
+        try {
+            record.request = objectMapper.readValue(line, MeetingRequest.class);
+            MeetingRequest request = record.request;
+            if (request.getEmployeeId() == null || request.getStartTime() == null
+                    || request.getEndTime() == null || request.getTitle() == null) {
+                record.reject(Status.INVALID, "employeeId, startTime, endTime and title are required");
+            } else if (!request.getEndTime().isAfter(request.getStartTime())) {
+                record.reject(Status.INVALID, "Start time must be before end time");
+            }
+        } catch (JsonProcessingException e) {
+            record.reject(Status.INVALID, "Malformed record: " + e.getOriginalMessage());
+        }
+        return record;
+    }
+
+    private int importChunk(List<PendingRecord> chunk, JsonGenerator results) throws IOException {
+        Map<Long, List<PendingRecord>> recordsByEmployee = new HashMap<>();
+        for (PendingRecord record : chunk) {
+            if (record.result == null) {
+                recordsByEmployee.computeIfAbsent(record.request.getEmployeeId(), id -> new ArrayList<>()).add(record);
+            }
+        }
+
+        List<Meeting> persisted = recordsByEmployee.isEmpty() ? List.of()
+                : bookingExecutor.executeForAll(recordsByEmployee.keySet(), () ->
+                        new TransactionTemplate(transactionManager).execute(status -> persistChunk(recordsByEmployee)));
+        if (bookingEventLog != null) {
+            try {
+                bookingEventLog.booked(persisted).join();
+            } catch (CompletionException e) {
+                // Committed either way; the log has marked the calendars diverged, so they are read from the database
+                logger.warn("Booking event log write failed for {} imported meetings", persisted.size(), e.getCause());
+            }
+        }
+        persisted.forEach(calendarIndex::add);
+
+        for (PendingRecord record : chunk) {
+            objectMapper.writeValue(results, record.result);
+            results.writeRaw('\n');
+        }
+        results.flush();
+        return persisted.size();
+    }
+
+    // Runs under the employees' booking guard; may be retried, so it recomputes every outcome
+    private List<Meeting> persistChunk(Map<Long, List<PendingRecord>> recordsByEmployee) {
+        Map<Long, Employee> employees = new HashMap<>();
+        employeeRepository.findAllById(recordsByEmployee.keySet()).forEach(employee -> employees.put(employee.getId(), employee));
+
+        List<PendingRecord> accepted = new ArrayList<>();
+        recordsByEmployee.forEach((employeeId, records) -> {
+            Employee employee = employees.get(employeeId);
+            if (employee == null) {
+                records.forEach(record -> record.reject(Status.EMPLOYEE_NOT_FOUND, "Employee not found"));
+                return;
+            }
+            acceptNonConflicting(employee, records, accepted);
+        });
+
+        List<Meeting> persisted = new ArrayList<>(accepted.size());
+        for (PendingRecord record : accepted) {
+            entityManager.persist(record.meeting);
+            persisted.add(record.meeting);
+        }
+        entityManager.flush();
+        for (PendingRecord record : accepted) {
+            record.result = new MeetingImportResult(record.lineNumber, Status.CREATED, record.meeting.getId(), null);
+        }
+        persisted.stream().map(meeting -> meeting.getEmployee().getId()).distinct().forEach(invalidationBus::publish);
+        entityManager.clear();
+        return persisted;
+    }
+
+    private void acceptNonConflicting(Employee employee, List<PendingRecord> records, List<PendingRecord> accepted) {
+        records.sort(Comparator.comparing(record -> record.request.getStartTime()));
+        LocalDateTime rangeStart = records.get(0).request.getStartTime();
+        LocalDateTime rangeEnd = records.stream().map(record -> record.request.getEndTime())
+                .max(Comparator.naturalOrder()).orElseThrow();
+        List<Meeting> existing = new ArrayList<>(meetingRepository.findOverlapping(employee.getId(), rangeStart, rangeEnd));
+        existing.addAll(meetingRepository.findAttendedOverlapping(employee.getId(), rangeStart, rangeEnd));
+        existing.sort(Comparator.comparing(Meeting::getStartTime));
+        List<RecurrenceRule> series = recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(employee.getId())
+                .stream().map(RecurrenceRule::of).toList();
+
+        // Both lists are sorted by start; existing meetings are skipped once they end before the current record
+        int next = 0;
+        LocalDateTime acceptedUntil = LocalDateTime.MIN;
+        for (PendingRecord record : records) {
+            MeetingRequest request = record.request;
+            while (next < existing.size() && !existing.get(next).getEndTime().isAfter(request.getStartTime())) {
+                next++;
+            }
+            boolean overlapsExisting = false;
+            for (int i = next; i < existing.size() && existing.get(i).getStartTime().isBefore(request.getEndTime()); i++) {
+                if (existing.get(i).getEndTime().isAfter(request.getStartTime())) {
+                    overlapsExisting = true;
+                    break;
+                }
+            }
+            long start = EmployeeCalendar.toEpochSecond(request.getStartTime());
+            long end = EmployeeCalendar.toEpochSecond(request.getEndTime());
+            overlapsExisting = overlapsExisting || series.stream().anyMatch(rule -> rule.overlaps(start, end));
+            if (overlapsExisting || acceptedUntil.isAfter(request.getStartTime())) {
+                record.reject(Status.CONFLICT, "Meeting time conflicts with existing meetings");
+                continue;
+            }
+
+            Meeting meeting = new Meeting(request.getStartTime(), request.getEndTime(), employee, request.getTitle());
+            Set<ConstraintViolation<Meeting>> violations = validator.validate(meeting);
+            if (!violations.isEmpty()) {
+                record.reject(Status.INVALID, violations.stream().map(ConstraintViolation::getMessage)
+                        .sorted().collect(Collectors.joining("; ")));
+                continue;
+            }
+            record.meeting = meeting;
+            record.result = null;
+            accepted.add(record);
+            acceptedUntil = request.getEndTime();
+        }
+    }
+
+    private static final class PendingRecord {
+        private final long lineNumber;
+        private MeetingRequest request;
+        private Meeting meeting;
+        private MeetingImportResult result;
+
+        private PendingRecord(long lineNumber) {
+            this.lineNumber = lineNumber;
+        }
+
+        private void reject(Status status, String message) {
+            result = new MeetingImportResult(lineNumber, status, null, message);
+        }
+    }
+}
@@ -1,58 +1,395 @@
 package com.meeting.calendar_assistant.service;
 
+import com.meeting.calendar_assistant.exception.ConcurrentBookingException;
 import com.meeting.calendar_assistant.exception.MeetingConflictException;
-import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.exception.MeetingNotFoundException;
+import com.meeting.calendar_assistant.model.BookingConflict;
+import com.meeting.calendar_assistant.model.BusyInterval;
 import com.meeting.calendar_assistant.model.Employee;
 import com.meeting.calendar_assistant.model.Meeting;
-import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.model.ParticipantConflict;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.model.RecurringMeetingRequest;
+import com.meeting.calendar_assistant.model.TimeWindow;
+import com.meeting.calendar_assistant.model.WindowConflicts;
 import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 @Service
 public class MeetingService {
 
     private static final Logger logger = LoggerFactory.getLogger(MeetingService.class);
     private static final int SLOT_INCREMENT_MINUTES = 30;
+    private static final LogSampler CONFLICT_LOG_SAMPLER = new LogSampler(Duration.ofSeconds(1));
 
     @Autowired
-    private EmployeeRepository employeeRepository;
+    private EmployeeDirectory employeeDirectory;
 
     @Autowired
     private MeetingRepository meetingRepository;
 
-    // Book a meeting
+    @Autowired
+    private RecurringMeetingRepository recurringMeetingRepository;
+
+    @Autowired
+    private CalendarIndex calendarIndex;
+
+    @Autowired
+    private FreeSlotEngine freeSlotEngine;
+
+    @Autowired
+    private BookingExecutor bookingExecutor;
+
+    @Autowired
+    private CalendarInvalidationBus invalidationBus;
+
+    @Autowired
+    private ParticipantFanOut participantFanOut;
+
+    @Autowired
+    private SchedulingMetrics schedulingMetrics;
+
+    @Autowired(required = false)
+    private BookingEventLog bookingEventLog;
+
+    // How far ahead findNextSlots keeps looking before giving up
+    @Value("${calendar.free-slots.next.max-horizon-days:90}")
+    private int nextSlotsMaxHorizonDays = 90;
+
+    // How many alternative slots a rejected booking offers on each side of the requested time
+    @Value("${calendar.conflict.alternatives:3}")
+    private int conflictAlternatives = 3;
+
+    // How far ahead a new series is compared with the employee's other series
+    @Value("${calendar.recurring.conflict-horizon-days:366}")
+    private int seriesConflictHorizonDays = 366;
+
+    // Book a meeting; the conflict check and the save run through the booking executor so they cannot interleave
     public Meeting bookMeeting(Long employeeId, LocalDateTime startTime, LocalDateTime endTime, String title) {
-        validateMeetingTimes(startTime, endTime);
+        return schedulingMetrics.record(SchedulingMetrics.BOOK, () -> {
+            validateMeetingTimes(startTime, endTime);
+            Employee employee = findEmployeeById(employeeId);
+            schedulingMetrics.participants(SchedulingMetrics.BOOK, 1);
+
+            Meeting savedMeeting;
+            try {
+                savedMeeting = bookingExecutor.execute(employeeId, () -> {
+                    checkMeetingConflicts(employeeId, startTime, endTime);
+                    Meeting meeting = meetingRepository.save(new Meeting(startTime, endTime, employee, title));
+                    invalidationBus.publish(employeeId);
+                    return meeting;
+                });
+            } catch (ConcurrentBookingException e) {
+                throw e;
+            } catch (MeetingConflictException e) {
+                throw withAlternatives(e, List.of(employeeId), startTime, endTime);
+            }
+            logBooked(savedMeeting);
+            calendarIndex.add(savedMeeting);
+            return savedMeeting;
+        });
+    }
+
+    // Book one meeting for an organizer and attendees, or for none of them. All participants are claimed through
+    // the booking executor in ascending ID order, checked for conflicts in one batched pass and saved as one row.
+    public Meeting bookGroupMeeting(Long organizerId, Collection<Long> attendeeIds, LocalDateTime startTime,
+                                    LocalDateTime endTime, String title) {
+        return schedulingMetrics.record(SchedulingMetrics.BOOK_GROUP, () -> {
+            validateMeetingTimes(startTime, endTime);
+            Set<Long> participantIds = new LinkedHashSet<>();
+            participantIds.add(organizerId);
+            participantIds.addAll(attendeeIds);
+            if (participantIds.contains(null)) {
+                throw new IllegalArgumentException("Organizer and attendee IDs are required");
+            }
+            schedulingMetrics.participants(SchedulingMetrics.BOOK_GROUP, participantIds.size());
+
+            Employee organizer = findEmployeeById(organizerId);
+            List<Employee> attendees = new ArrayList<>(participantIds.size() - 1);
+            for (Long attendeeId : participantIds) {
+                if (!attendeeId.equals(organizerId)) {
+                    attendees.add(findEmployeeById(attendeeId));
+                }
+            }
+
+            Meeting savedMeeting;
+            try {
+                savedMeeting = bookingExecutor.executeForAll(participantIds, () -> {
+                    checkGroupConflicts(participantIds, startTime, endTime);
+                    Meeting meeting = new Meeting(startTime, endTime, organizer, title);
+                    meeting.getAttendees().addAll(attendees);
+                    Meeting saved = meetingRepository.save(meeting);
+                    participantIds.forEach(invalidationBus::publish);
+                    return saved;
+                });
+            } catch (ConcurrentBookingException e) {
+                throw e;
+            } catch (MeetingConflictException e) {
+                throw withAlternatives(e, List.copyOf(participantIds), startTime, endTime);
+            }
+            logBooked(savedMeeting);
+            calendarIndex.add(savedMeeting);
+            return savedMeeting;
+        });
+    }
+
+    // Cancel a meeting, freeing the organizer and every attendee
+    public void cancelMeeting(Long meetingId) {
+        Meeting meeting = meetingRepository.findWithAttendeesById(meetingId)
+                .orElseThrow(() -> new MeetingNotFoundException("Meeting not found"));
+        List<Long> participantIds = meeting.participantIds();
+        bookingExecutor.executeForAll(participantIds, () -> {
+            meetingRepository.delete(meeting);
+            participantIds.forEach(invalidationBus::publish);
+            return null;
+        });
+        logCancelled(meeting);
+        calendarIndex.remove(meeting);
+    }
+
+    // Book a recurring series as a single row; its occurrences are checked against the employee's calendar
+    public RecurringMeeting bookRecurringMeeting(RecurringMeetingRequest request) {
+        validateMeetingTimes(request.getStartTime(), request.getEndTime());
+        if (!request.getStartTime().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Start time must be in the future");
+        }
+        if (request.getFrequency() == null || request.getRepeatEvery() <= 0) {
+            throw new IllegalArgumentException("Frequency is required and the repeat interval must be positive");
+        }
+        if (request.getRepeatUntil() != null && request.getRepeatUntil().isBefore(request.getStartTime())) {
+            throw new IllegalArgumentException("Series cannot end before its first occurrence");
+        }
+        Long employeeId = request.getEmployeeId();
         Employee employee = findEmployeeById(employeeId);
+        RecurringMeeting series = new RecurringMeeting(request.getStartTime(), request.getEndTime(), request.getFrequency(),
+                request.getRepeatEvery(), request.getRepeatUntil(), employee, request.getTitle());
+        if (request.getSkippedOccurrences() != null) {
+            series.getSkippedOccurrences().addAll(request.getSkippedOccurrences());
+        }
+        if (RecurrenceRule.of(series).occurrencesOverlapEachOther()) {
+            throw new IllegalArgumentException("Occurrences must end before the next one starts");
+        }
+
+        RecurringMeeting savedSeries = bookingExecutor.execute(employeeId, () -> {
+            checkSeriesConflicts(employeeId, series);
+            RecurringMeeting saved = recurringMeetingRepository.save(series);
+            invalidationBus.publish(employeeId);
+            return saved;
+        });
+        calendarIndex.addSeries(savedSeries);
+        return savedSeries;
+    }
 
-        checkMeetingConflicts(employeeId, startTime, endTime);
+    // Cancel a whole series
+    public void cancelRecurringMeeting(Long seriesId) {
+        RecurringMeeting series = findSeriesById(seriesId);
+        Long employeeId = series.getEmployee().getId();
+        bookingExecutor.execute(employeeId, () -> {
+            recurringMeetingRepository.delete(series);
+            invalidationBus.publish(employeeId);
+            return null;
+        });
+        calendarIndex.removeSeries(series);
+    }
 
-        Meeting meeting = new Meeting(startTime, endTime, employee, title);
-        return meetingRepository.save(meeting);
+    // Cancel one occurrence of a series, leaving the others in place
+    public RecurringMeeting skipOccurrence(Long seriesId, LocalDateTime occurrenceStart) {
+        Long employeeId = findSeriesById(seriesId).getEmployee().getId();
+        RecurringMeeting savedSeries = bookingExecutor.execute(employeeId, () -> {
+            // Re-read under the calendar's guard so concurrent skips of the same series are not lost
+            RecurringMeeting series = findSeriesById(seriesId);
+            if (!RecurrenceRule.of(series).isOccurrence(EmployeeCalendar.toEpochSecond(occurrenceStart))) {
+                throw new IllegalArgumentException("No occurrence of the series starts at " + occurrenceStart);
+            }
+            series.getSkippedOccurrences().add(occurrenceStart);
+            RecurringMeeting saved = recurringMeetingRepository.save(series);
+            invalidationBus.publish(employeeId);
+            return saved;
+        });
+        calendarIndex.addSeries(savedSeries);
+        return savedSeries;
     }
 
     // Find free slots for two employees
     public List<LocalDateTime> findFreeSlots(Long employee1Id, Long employee2Id, int durationInMinutes) {
-        List<Meeting> allMeetings = getAllMeetings(employee1Id, employee2Id);
-        return findAvailableSlots(allMeetings, durationInMinutes);
+        return schedulingMetrics.record(SchedulingMetrics.FREE_SLOTS, () -> {
+            schedulingMetrics.participants(SchedulingMetrics.FREE_SLOTS, 2);
+            FreeSlots freeSlots = findFreeSlotsToday(calendarsOf(List.of(employee1Id, employee2Id)), durationInMinutes);
+            schedulingMetrics.slotsReturned(SchedulingMetrics.FREE_SLOTS, freeSlots.size());
+            return freeSlots;
+        });
+    }
+
+    // Today's slots over calendars the caller has already loaded; shared with the reactive API
+    public FreeSlots findFreeSlotsToday(List<EmployeeCalendar> calendars, int durationInMinutes) {
+        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
+        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
+        EmployeeCalendar busyTime = EmployeeCalendar.merge(calendars,
+                EmployeeCalendar.toEpochSecond(startOfDay), EmployeeCalendar.toEpochSecond(endOfDay));
+        return findAvailableSlots(busyTime, startOfDay, endOfDay, durationInMinutes);
+    }
+
+    // Find the maximal free windows in [from, to) shared by two employees, keeping only those that fit a
+    // step-aligned slot; windows are clipped to the range
+    public List<TimeWindow> findFreeWindows(Long employee1Id, Long employee2Id, LocalDateTime from, LocalDateTime to,
+                                            int durationInMinutes, int stepInMinutes, int limit) {
+        validateMeetingTimes(from, to);
+        if (durationInMinutes <= 0 || stepInMinutes <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Duration, step and limit must be positive");
+        }
+        if (from.equals(to)) {
+            return List.of();
+        }
+
+        EmployeeCalendar busyTime = combinedCalendar(List.of(employee1Id, employee2Id), from, to);
+        FreeSlots freeGaps = findFreeGaps(busyTime, from, to, durationInMinutes, stepInMinutes);
+
+        int count = Math.min(limit, freeGaps.rangeCount());
+        List<TimeWindow> windows = new ArrayList<>(count);
+        for (int range = 0; range < count; range++) {
+            windows.add(new TimeWindow(FreeSlots.fromEpochMinute(freeGaps.gapStartMinute(range)),
+                    FreeSlots.fromEpochMinute(freeGaps.gapEndMinute(range))));
+        }
+        return windows;
+    }
+
+    // Find slots in [from, to) where every participant is free
+    public FreeSlots findFreeSlots(List<Long> participantIds, LocalDateTime from, LocalDateTime to,
+                                   int durationInMinutes, int granularityInMinutes) {
+        return schedulingMetrics.record(SchedulingMetrics.FREE_SLOTS, () -> {
+            validateMeetingTimes(from, to);
+            if (durationInMinutes <= 0 || granularityInMinutes <= 0) {
+                throw new IllegalArgumentException("Duration and granularity must be positive");
+            }
+            schedulingMetrics.participants(SchedulingMetrics.FREE_SLOTS, participantIds.size());
+
+            FreeSlots freeSlots = freeSlotEngine.findFreeSlots(byEmployee(participantIds, calendarsOf(participantIds)),
+                    from, to, durationInMinutes, granularityInMinutes);
+            schedulingMetrics.slotsReturned(SchedulingMetrics.FREE_SLOTS, freeSlots.size());
+            return freeSlots;
+        });
+    }
+
+    // The first slots from "from" onwards where every participant is free, on the default 30-minute grid.
+    // Days are searched one at a time and only until enough slots are found, so the cost follows how far
+    // out the slots are rather than the horizon.
+    public Stream<LocalDateTime> findNextSlots(List<Long> participantIds, int durationInMinutes, LocalDateTime from,
+                                               int limit) {
+        if (durationInMinutes <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Duration and limit must be positive");
+        }
+        return nextSlots(byEmployee(participantIds, calendarsOf(participantIds)), durationInMinutes, from, limit);
+    }
+
+    // Lazy day-by-day slot search over calendars the caller has already loaded; shared with the reactive API
+    public Stream<LocalDateTime> nextSlots(Map<Long, EmployeeCalendar> calendarsByEmployee, int durationInMinutes,
+                                           LocalDateTime from, int limit) {
+        LocalDateTime horizon = from.plusDays(nextSlotsMaxHorizonDays);
+        return Stream.iterate(from, dayStart -> dayStart.isBefore(horizon), dayStart -> dayStart.plusDays(1))
+                .flatMap(dayStart -> freeSlotsStartingOn(calendarsByEmployee, dayStart, horizon, durationInMinutes,
+                        SLOT_INCREMENT_MINUTES).stream())
+                .limit(limit);
+    }
+
+    // Slots starting in the day from dayStart, without looking past "to". Slots on the absolute granularity grid
+    // are independent of where the search starts, so the day is searched on past its end by one meeting length
+    // and only the slots that start inside it are kept.
+    public List<LocalDateTime> freeSlotsStartingOn(Map<Long, EmployeeCalendar> calendarsByEmployee, LocalDateTime dayStart,
+                                                   LocalDateTime to, int durationInMinutes, int granularityInMinutes) {
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        LocalDateTime searchEnd = dayEnd.plusMinutes(durationInMinutes);
+        FreeSlots freeSlots = freeSlotEngine.findFreeSlots(calendarsByEmployee, dayStart,
+                searchEnd.isBefore(to) ? searchEnd : to, durationInMinutes, granularityInMinutes);
+
+        // Slots are ascending, so those starting inside the day are a prefix of the list
+        long dayEndMinute = FreeSlots.ceilEpochMinute(EmployeeCalendar.toEpochSecond(dayEnd));
+        int step = freeSlots.stepMinutes();
+        int inDay = 0;
+        for (int range = 0; range < freeSlots.rangeCount(); range++) {
+            long firstSlot = freeSlots.firstSlotMinute(range);
+            if (firstSlot >= dayEndMinute) {
+                break;
+            }
+            inDay += (int) Math.min(freeSlots.slotCount(range), (dayEndMinute - firstSlot + step - 1) / step);
+        }
+        return freeSlots.subList(0, inDay);
+    }
+
+    public static Map<Long, EmployeeCalendar> byEmployee(List<Long> participantIds, List<EmployeeCalendar> calendars) {
+        Map<Long, EmployeeCalendar> calendarsByEmployee = new LinkedHashMap<>();
+        for (int i = 0; i < participantIds.size(); i++) {
+            calendarsByEmployee.put(participantIds.get(i), calendars.get(i));
+        }
+        return calendarsByEmployee;
     }
 
     // Find conflicted participants
     public List<Long> findConflictedParticipants(List<Long> participantIds, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Long> conflictedParticipants = new ArrayList<>();
-        for (Long participantId : participantIds) {
-            if (hasMeetingConflict(participantId, startTime, endTime)) {
-                conflictedParticipants.add(participantId);
+        return schedulingMetrics.record(SchedulingMetrics.CONFLICTS, () -> {
+            schedulingMetrics.participants(SchedulingMetrics.CONFLICTS, participantIds.size());
+            List<EmployeeCalendar> calendars = calendarsOf(participantIds);
+            long start = EmployeeCalendar.toEpochSecond(startTime);
+            long end = EmployeeCalendar.toEpochSecond(endTime);
+            List<Long> conflictedParticipants = new ArrayList<>();
+            long scanned = 0;
+            for (int i = 0; i < participantIds.size(); i++) {
+                EmployeeCalendar calendar = calendars.get(i);
+                // As on the booking path: the overlapping meetings, or the series when no meeting overlaps
+                int overlapping = calendar.countOverlapping(start, end);
+                scanned += overlapping > 0 ? overlapping : calendar.seriesCount();
+                if (overlapping > 0 || (calendar.seriesCount() > 0 && calendar.overlaps(start, end))) {
+                    conflictedParticipants.add(participantIds.get(i));
+                }
+            }
+            schedulingMetrics.meetingsScanned(SchedulingMetrics.CONFLICTS, scanned);
+            schedulingMetrics.conflicts(SchedulingMetrics.CONFLICTS, conflictedParticipants.size());
+            return conflictedParticipants;
+        });
+    }
+
+    // Find conflicted participants and the offending meetings for several candidate windows at once
+    public List<WindowConflicts> findConflicts(List<Long> participantIds, List<TimeWindow> windows) {
+        for (TimeWindow window : windows) {
+            validateMeetingTimes(window.getStartTime(), window.getEndTime());
+        }
+
+        // One calendar lookup per participant, then one probe per window; duplicates in the request are checked once
+        List<Long> uniqueParticipantIds = new ArrayList<>(new LinkedHashSet<>(participantIds));
+        List<EmployeeCalendar> calendars = calendarsOf(uniqueParticipantIds);
+        List<WindowConflicts> results = new ArrayList<>(windows.size());
+        for (TimeWindow window : windows) {
+            long start = EmployeeCalendar.toEpochSecond(window.getStartTime());
+            long end = EmployeeCalendar.toEpochSecond(window.getEndTime());
+            List<ParticipantConflict> conflicts = new ArrayList<>();
+            for (int i = 0; i < uniqueParticipantIds.size(); i++) {
+                long[] meetingIds = calendars.get(i).overlapping(start, end);
+                if (meetingIds.length > 0) {
+                    conflicts.add(new ParticipantConflict(uniqueParticipantIds.get(i), Arrays.stream(meetingIds).boxed().toList()));
+                }
             }
+            results.add(new WindowConflicts(window.getStartTime(), window.getEndTime(), conflicts));
         }
-        return conflictedParticipants;
+        return results;
     }
 
     // Helper methods
@@ -62,64 +399,253 @@ public class MeetingService {
         }
     }
 
+    // With the event-log engine a booking is acknowledged once the log has written it. The booking is committed
+    // by then, so a failed write does not fail it: the log has marked the calendars diverged and they are read
+    // from the database instead.
+    private void logBooked(Meeting meeting) {
+        if (bookingEventLog != null) {
+            awaitLog(bookingEventLog.booked(List.of(meeting)), meeting);
+        }
+    }
+
+    private void logCancelled(Meeting meeting) {
+        if (bookingEventLog != null) {
+            awaitLog(bookingEventLog.cancelled(meeting), meeting);
+        }
+    }
+
+    private void awaitLog(CompletableFuture<Void> written, Meeting meeting) {
+        try {
+            written.join();
+        } catch (CompletionException e) {
+            logger.warn("Booking event log write failed for meeting={}, reading its calendars from the database",
+                    meeting.getId(), e.getCause());
+        }
+    }
+
     private Employee findEmployeeById(Long employeeId) {
-        return employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new EmployeeNotFoundException("Employee not found"));
+        return employeeDirectory.referenceTo(employeeId);
     }
 
+    // The write path re-validates against the database so a stale index can never let a double booking through.
+    // The series are only loaded once no single meeting overlaps.
     private void checkMeetingConflicts(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Meeting> existingMeetings = meetingRepository.findByEmployee_Id(employeeId);
-        logger.info("Existing meetings for employee {}: {}", employeeId, existingMeetings);
-
-        for (Meeting meeting : existingMeetings) {
-            if (isOverlapping(meeting.getStartTime(), meeting.getEndTime(), startTime, endTime)) {
-                logger.error("Meeting conflict detected for employee {}: {} overlaps with requested time {} to {}",
-                        employeeId, meeting, startTime, endTime);
+        List<Meeting> conflictingMeetings = meetingRepository.findOverlapping(employeeId, startTime, endTime);
+        if (!conflictingMeetings.isEmpty()) {
+            schedulingMetrics.meetingsScanned(SchedulingMetrics.BOOK, conflictingMeetings.size());
+            logConflict(employeeId, startTime, endTime, conflictingMeetings.get(0).getId(), conflictingMeetings.size());
+            throw new MeetingConflictException("Meeting time conflicts with existing meetings");
+        }
+        // Only tells whether the employee attends an overlapping meeting, so it is recorded as one
+        if (!meetingRepository.findBusyAttendees(List.of(employeeId), startTime, endTime).isEmpty()) {
+            schedulingMetrics.meetingsScanned(SchedulingMetrics.BOOK, 1);
+            logConflict(employeeId, startTime, endTime, null, 1);
+            throw new MeetingConflictException("Meeting time conflicts with existing meetings");
+        }
+        List<RecurringMeeting> series = recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(employeeId);
+        schedulingMetrics.meetingsScanned(SchedulingMetrics.BOOK, series.size());
+        long start = EmployeeCalendar.toEpochSecond(startTime);
+        long end = EmployeeCalendar.toEpochSecond(endTime);
+        for (RecurringMeeting recurring : series) {
+            if (RecurrenceRule.of(recurring).overlaps(start, end)) {
+                logConflict(employeeId, startTime, endTime, recurring.getId(), 1);
                 throw new MeetingConflictException("Meeting time conflicts with existing meetings");
             }
         }
     }
 
-    private boolean hasMeetingConflict(Long participantId, LocalDateTime startTime, LocalDateTime endTime) {
-        List<Meeting> meetings = meetingRepository.findByEmployee_Id(participantId);
-        return meetings.stream().anyMatch(meeting -> isOverlapping(meeting.getStartTime(), meeting.getEndTime(), startTime, endTime));
+    // Two queries find every participant organizing or attending an overlapping meeting, one more loads their series
+    private void checkGroupConflicts(Collection<Long> participantIds, LocalDateTime startTime, LocalDateTime endTime) {
+        Set<Long> busy = new TreeSet<>(meetingRepository.findBusyOrganizers(participantIds, startTime, endTime));
+        busy.addAll(meetingRepository.findBusyAttendees(participantIds, startTime, endTime));
+        List<RecurringMeeting> series = recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeIdIn(participantIds);
+        schedulingMetrics.meetingsScanned(SchedulingMetrics.BOOK_GROUP, busy.size() + series.size());
+        long start = EmployeeCalendar.toEpochSecond(startTime);
+        long end = EmployeeCalendar.toEpochSecond(endTime);
+        for (RecurringMeeting recurring : series) {
+            if (RecurrenceRule.of(recurring).overlaps(start, end)) {
+                busy.add(recurring.getEmployee().getId());
+            }
+        }
+        if (!busy.isEmpty()) {
+            logConflict(busy.iterator().next(), startTime, endTime, null, busy.size());
+            throw new MeetingConflictException("Meeting time conflicts with existing meetings of employees " + busy);
+        }
     }
 
-    private boolean isOverlapping(LocalDateTime start1, LocalDateTime end1, LocalDateTime start2, LocalDateTime end2) {
-        return start1.isBefore(end2) && start2.isBefore(end1);
+    // Attaches the nearest free windows of the requested length, so the client can rebook without searching first.
+    // Only for an overlap: a booking given up under contention may well fit, and is rejected without alternatives.
+    // They come from the cached calendars once the booking guard is released and are advisory: a retry is checked
+    // against the database like any other booking.
+    private MeetingConflictException withAlternatives(MeetingConflictException conflict, List<Long> participantIds,
+                                                      LocalDateTime startTime, LocalDateTime endTime) {
+        Duration length = Duration.between(startTime, endTime);
+        int durationInMinutes = (int) Math.max(1, (length.getSeconds() + 59) / 60);
+        List<TimeWindow> earlier = new ArrayList<>(conflictAlternatives);
+        List<TimeWindow> later = new ArrayList<>(conflictAlternatives);
+        if (conflictAlternatives > 0) {
+            List<EmployeeCalendar> calendars = calendarsOf(participantIds);
+            long start = EmployeeCalendar.toEpochSecond(startTime);
+            long end = EmployeeCalendar.toEpochSecond(endTime);
+            if (calendars.stream().noneMatch(calendar -> calendar.overlaps(start, end))) {
+                // The cache has not seen what the database rejected the booking for yet, so read it afresh
+                participantIds.forEach(calendarIndex::evict);
+                calendars = calendarsOf(participantIds);
+            }
+            Map<Long, EmployeeCalendar> calendarsByEmployee = byEmployee(participantIds, calendars);
+            nextSlots(calendarsByEmployee, durationInMinutes, startTime, conflictAlternatives)
+                    .forEach(slot -> later.add(new TimeWindow(slot, slot.plus(length))));
+
+            // Walk back a day at a time, never into the past; each day's slots are taken latest first
+            LocalDateTime floor = LocalDateTime.now();
+            LocalDateTime horizon = startTime.minusDays(nextSlotsMaxHorizonDays);
+            if (horizon.isAfter(floor)) {
+                floor = horizon;
+            }
+            for (LocalDateTime dayEnd = startTime; earlier.size() < conflictAlternatives && dayEnd.isAfter(floor);
+                 dayEnd = dayEnd.minusDays(1)) {
+                List<LocalDateTime> daySlots = freeSlotsStartingOn(calendarsByEmployee, dayEnd.minusDays(1), startTime.plus(length),
+                        durationInMinutes, SLOT_INCREMENT_MINUTES);
+                for (int i = daySlots.size() - 1; i >= 0 && earlier.size() < conflictAlternatives; i--) {
+                    LocalDateTime slot = daySlots.get(i);
+                    if (slot.isBefore(floor)) {
+                        break;
+                    }
+                    earlier.add(new TimeWindow(slot, slot.plus(length)));
+                }
+            }
+        }
+        return new MeetingConflictException(conflict.getMessage(),
+                new BookingConflict(conflict.getMessage(), startTime, endTime, earlier, later));
     }
 
-    private List<Meeting> getAllMeetings(Long employee1Id, Long employee2Id) {
-        List<Meeting> allMeetings = new ArrayList<>();
-        allMeetings.addAll(meetingRepository.findByEmployee_Id(employee1Id));
-        allMeetings.addAll(meetingRepository.findByEmployee_Id(employee2Id));
-        allMeetings.sort((m1, m2) -> m1.getStartTime().compareTo(m2.getStartTime()));
-        return allMeetings;
+    // Conflicts are a normal outcome that can occur on every request: each one is logged at DEBUG,
+    // otherwise at most one per second with the number left out since the previous one
+    private void logConflict(Long employeeId, LocalDateTime startTime, LocalDateTime endTime, Long conflictingId,
+                             int overlapping) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Booking conflict employee={} start={} end={} conflictingId={} overlapping={}",
+                    employeeId, startTime, endTime, conflictingId, overlapping);
+            return;
+        }
+        long suppressed = CONFLICT_LOG_SAMPLER.sample();
+        if (suppressed >= 0) {
+            logger.info("Booking conflict employee={} start={} end={} conflictingId={} overlapping={} suppressed={}",
+                    employeeId, startTime, endTime, conflictingId, overlapping, suppressed);
+        }
     }
 
-    private List<LocalDateTime> findAvailableSlots(List<Meeting> allMeetings, int durationInMinutes) {
-        List<LocalDateTime> freeSlots = new ArrayList<>();
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endOfDay = LocalDateTime.now().withHour(23).withMinute(59).withSecond(59);
-        LocalDateTime lastEndTime = startOfDay;
+    private RecurringMeeting findSeriesById(Long seriesId) {
+        return recurringMeetingRepository.findWithSkippedOccurrencesById(seriesId)
+                .orElseThrow(() -> new MeetingNotFoundException("Recurring meeting not found"));
+    }
+
+    // Single meetings are checked against every occurrence; other series only over the conflict horizon,
+    // since two open-ended series could otherwise only be compared forever
+    private void checkSeriesConflicts(Long employeeId, RecurringMeeting series) {
+        RecurrenceRule rule = RecurrenceRule.of(series);
+        List<BusyInterval> meetings = new ArrayList<>(
+                meetingRepository.findBusyIntervalsByEmployee_IdAndEndTimeAfter(employeeId, series.getStartTime()));
+        meetings.addAll(meetingRepository.findAttendedBusyIntervals(employeeId));
+        for (BusyInterval meeting : meetings) {
+            if (rule.overlaps(EmployeeCalendar.toEpochSecond(meeting.getStartTime()), EmployeeCalendar.toEpochSecond(meeting.getEndTime()))) {
+                logConflict(employeeId, series.getStartTime(), series.getEndTime(), meeting.getId(), 1);
+                throw new MeetingConflictException("Recurring meeting conflicts with existing meetings");
+            }
+        }
+
+        long[] occurrences = rule.occurrencesOverlapping(EmployeeCalendar.toEpochSecond(series.getStartTime()),
+                EmployeeCalendar.toEpochSecond(series.getStartTime().plusDays(seriesConflictHorizonDays)));
+        for (RecurringMeeting other : recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(employeeId)) {
+            RecurrenceRule otherRule = RecurrenceRule.of(other);
+            for (long occurrence : occurrences) {
+                if (otherRule.overlaps(occurrence, occurrence + rule.durationSeconds())) {
+                    logConflict(employeeId, series.getStartTime(), series.getEndTime(), other.getId(), 1);
+                    throw new MeetingConflictException("Recurring meeting conflicts with existing meetings");
+                }
+            }
+        }
+    }
+
+    // Calendars in participant order; cached ones are read inline and only loads from the database are fanned out
+    private List<EmployeeCalendar> calendarsOf(List<Long> participantIds) {
+        List<EmployeeCalendar> calendars = new ArrayList<>(participantIds.size());
+        List<Integer> uncached = new ArrayList<>();
+        for (int i = 0; i < participantIds.size(); i++) {
+            Long participantId = participantIds.get(i);
+            if (calendarIndex.isCached(participantId)) {
+                calendars.add(calendarIndex.calendarOf(participantId));
+            } else {
+                calendars.add(null);
+                uncached.add(i);
+            }
+        }
+        if (!uncached.isEmpty()) {
+            List<EmployeeCalendar> loaded = participantFanOut.map(
+                    uncached.stream().map(participantIds::get).toList(), calendarIndex::calendarOf);
+            for (int i = 0; i < uncached.size(); i++) {
+                calendars.set(uncached.get(i), loaded.get(i));
+            }
+        }
+        return calendars;
+    }
+
+    // Busy intervals of all participants that overlap [from, to), merged into one start-sorted calendar
+    private EmployeeCalendar combinedCalendar(List<Long> participantIds, LocalDateTime from, LocalDateTime to) {
+        return EmployeeCalendar.merge(calendarsOf(participantIds), EmployeeCalendar.toEpochSecond(from), EmployeeCalendar.toEpochSecond(to));
+    }
+
+    private FreeSlots findAvailableSlots(EmployeeCalendar busyTime, LocalDateTime startOfDay,
+                                         LocalDateTime endOfDay, int durationInMinutes) {
+        FreeSlots.Builder freeSlots = new FreeSlots.Builder(SLOT_INCREMENT_MINUTES);
+        long lastEndTime = epochMinute(EmployeeCalendar.toEpochSecond(startOfDay));
 
-        for (Meeting meeting : allMeetings) {
-            if (meeting.getStartTime().isAfter(lastEndTime)) {
-                addFreeSlots(freeSlots, lastEndTime, meeting.getStartTime(), durationInMinutes);
+        for (int i = 0; i < busyTime.size(); i++) {
+            long startTime = epochMinute(busyTime.startAt(i));
+            if (startTime > lastEndTime) {
+                addFreeSlots(freeSlots, lastEndTime, startTime, durationInMinutes);
             }
-            lastEndTime = meeting.getEndTime().isAfter(lastEndTime) ? meeting.getEndTime() : lastEndTime;
+            lastEndTime = Math.max(lastEndTime, epochMinute(busyTime.endAt(i)));
         }
 
-        if (lastEndTime.isBefore(endOfDay)) {
-            addFreeSlots(freeSlots, lastEndTime, endOfDay, durationInMinutes);
+        long dayEnd = epochMinute(EmployeeCalendar.toEpochSecond(endOfDay));
+        if (lastEndTime < dayEnd) {
+            addFreeSlots(freeSlots, lastEndTime, dayEnd, durationInMinutes);
         }
-        return freeSlots;
+        return freeSlots.build();
     }
 
-    private void addFreeSlots(List<LocalDateTime> freeSlots, LocalDateTime gapStart, LocalDateTime gapEnd, int durationInMinutes) {
-        while (gapStart.plusMinutes(durationInMinutes).isBefore(gapEnd)) {
-            freeSlots.add(gapStart);
-            gapStart = gapStart.plusMinutes(SLOT_INCREMENT_MINUTES);
+    // Gaps are narrowed to whole minutes; a slot may end exactly when its gap ends
+    private FreeSlots findFreeGaps(EmployeeCalendar busyTime, LocalDateTime from, LocalDateTime to,
+                                   int durationInMinutes, int stepInMinutes) {
+        FreeSlots.Builder freeGaps = new FreeSlots.Builder(stepInMinutes);
+        long freeFrom = FreeSlots.ceilEpochMinute(EmployeeCalendar.toEpochSecond(from));
+
+        for (int i = 0; i < busyTime.size(); i++) {
+            long busyStart = FreeSlots.floorEpochMinute(busyTime.startAt(i));
+            if (busyStart > freeFrom) {
+                freeGaps.addAligned(freeFrom, busyStart, durationInMinutes);
+            }
+            freeFrom = Math.max(freeFrom, FreeSlots.ceilEpochMinute(busyTime.endAt(i)));
         }
+
+        long horizonEnd = FreeSlots.floorEpochMinute(EmployeeCalendar.toEpochSecond(to));
+        if (freeFrom < horizonEnd) {
+            freeGaps.addAligned(freeFrom, horizonEnd, durationInMinutes);
+        }
+        return freeGaps.build();
+    }
+
+    // Slots start at the gap start, step by SLOT_INCREMENT_MINUTES and must end strictly before the gap ends
+    private void addFreeSlots(FreeSlots.Builder freeSlots, long gapStart, long gapEnd, int durationInMinutes) {
+        long room = gapEnd - gapStart - durationInMinutes;
+        if (room > 0) {
+            freeSlots.add(gapStart, gapEnd, gapStart, gapStart + (room - 1) / SLOT_INCREMENT_MINUTES * SLOT_INCREMENT_MINUTES);
+        }
+    }
+
+    // Rounded up, so a strict "ends before" test on whole-minute slot starts stays exact
+    private static long epochMinute(long epochSecond) {
+        return FreeSlots.ceilEpochMinute(epochSecond);
     }
 }
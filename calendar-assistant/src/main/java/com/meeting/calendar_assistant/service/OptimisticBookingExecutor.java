@@ -0,0 +1,114 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.exception.ConcurrentBookingException;
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.model.Employee;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.OptimisticLockException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free alternative to {@link PessimisticBookingExecutor} for low-contention workloads.
+ * <p>
+ * Each attempt runs in its own transaction and force-increments the employee's calendar version, so of two
+ * overlapping bookings that both passed the conflict check only the first to commit succeeds. The loser is
+ * rolled back and retried with jittered exponential backoff, up to a bounded number of attempts.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.booking.concurrency", havingValue = "optimistic")
+public class OptimisticBookingExecutor implements BookingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(OptimisticBookingExecutor.class);
+
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final Counter attemptCounter;
+    private final Counter retryCounter;
+    private final Counter abortCounter;
+
+    public OptimisticBookingExecutor(PlatformTransactionManager transactionManager, EntityManager entityManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${calendar.booking.optimistic.max-attempts:5}") int maxAttempts,
+                                     @Value("${calendar.booking.optimistic.initial-backoff-ms:5}") long initialBackoffMillis) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.attemptCounter = Counter.builder("calendar.booking.optimistic.attempts")
+                .description("Optimistic booking transactions started")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("calendar.booking.optimistic.retries")
+                .description("Optimistic booking attempts retried after a version conflict")
+                .register(meterRegistry);
+        this.abortCounter = Counter.builder("calendar.booking.optimistic.aborts")
+                .description("Optimistic bookings abandoned after exhausting their attempts")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T execute(Long employeeId, Supplier<T> calendarWrite) {
+        return withRetries(List.of(employeeId), () -> {
+            Employee employee = entityManager.find(Employee.class, employeeId, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            if (employee == null) {
+                throw new EmployeeNotFoundException("Employee not found");
+            }
+            return calendarWrite.get();
+        });
+    }
+
+    // Employees that do not exist are skipped; callers validate them as part of the write
+    @Override
+    public <T> T executeForAll(Collection<Long> employeeIds, Supplier<T> calendarWrite) {
+        return withRetries(employeeIds, () -> {
+            for (Long employeeId : new TreeSet<>(employeeIds)) {
+                entityManager.find(Employee.class, employeeId, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+            }
+            return calendarWrite.get();
+        });
+    }
+
+    private <T> T withRetries(Collection<Long> employeeIds, Supplier<T> versionedWrite) {
+        for (int attempt = 1; ; attempt++) {
+            attemptCounter.increment();
+            try {
+                return transactionTemplate.execute(status -> versionedWrite.get());
+            } catch (ConcurrencyFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    abortCounter.increment();
+                    logger.warn("Giving up booking for employees {} after {} attempts", employeeIds, attempt);
+                    throw new ConcurrentBookingException("Calendar was modified concurrently, please retry");
+                }
+                retryCounter.increment();
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        long ceiling = initialBackoffMillis << Math.min(attempt - 1, 10);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentBookingException("Booking interrupted");
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.model.CalendarInvalidation;
+import com.meeting.calendar_assistant.repository.CalendarInvalidationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shares invalidations between replicas through an outbox table in the common database.
+ * <p>
+ * Each write appends a row in the write's own transaction, so a row exists exactly when the change committed.
+ * Every node polls for rows newer than the last version it has seen and evicts the affected calendars, skipping
+ * its own rows. Staleness is bounded by the poll interval.
+ * <p>
+ * Versions are assigned when a row is inserted, not when it commits, so a row can become visible after a higher
+ * version has already been polled. Every version skipped over is remembered as a gap and looked up again on each
+ * poll until its row shows up or {@code calendar.cache.invalidation.gap-timeout} passes, which covers rows of
+ * slow transactions as well as versions that were never committed at all. Old rows are pruned by every node.
+ * <p>
+ * Polls run on a thread of their own rather than on the shared {@code @Scheduled} thread, so a long archive run or
+ * event log snapshot cannot hold them up and make the node report itself down for invalidation lag.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.cache.invalidation.bus", havingValue = "outbox")
+public class OutboxInvalidationBus implements CalendarInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxInvalidationBus.class);
+    private static final int POLL_BATCH_SIZE = 500; // matches findTop500...
+    // Skipped versions tracked per jump; a larger jump, such as a sequence restart, only keeps the latest ones
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final CalendarInvalidationRepository invalidationRepository;
+    private final CalendarIndex calendarIndex;
+    private final Duration retention;
+    private final Duration gapTimeout;
+    private final long pollIntervalMs;
+    private ScheduledExecutorService poller;
+
+    // Versions below lastSeenVersion whose rows were not visible yet, with when they were first skipped
+    private final Map<Long, Instant> gaps = new TreeMap<>();
+    private volatile long lastSeenVersion;
+    private volatile Instant lastCaughtUp = Instant.now();
+
+    // Only polls when poll() is called
+    public OutboxInvalidationBus(CalendarInvalidationRepository invalidationRepository, CalendarIndex calendarIndex,
+                                 Duration retention, Duration gapTimeout) {
+        this(invalidationRepository, calendarIndex, retention, gapTimeout, 0);
+    }
+
+    @Autowired
+    public OutboxInvalidationBus(CalendarInvalidationRepository invalidationRepository, CalendarIndex calendarIndex,
+                                 @Value("${calendar.cache.invalidation.retention:1h}") Duration retention,
+                                 @Value("${calendar.cache.invalidation.gap-timeout:1m}") Duration gapTimeout,
+                                 @Value("${calendar.cache.invalidation.poll-interval-ms:500}") long pollIntervalMs) {
+        this.invalidationRepository = invalidationRepository;
+        this.calendarIndex = calendarIndex;
+        this.retention = retention;
+        this.gapTimeout = gapTimeout;
+        this.pollIntervalMs = pollIntervalMs;
+    }
+
+    // The cache starts empty, so changes made before this node started are irrelevant
+    @PostConstruct
+    public void start() {
+        lastSeenVersion = invalidationRepository.findLatestVersion();
+        logger.info("Node {} following calendar invalidations after version {}", nodeId, lastSeenVersion);
+        if (pollIntervalMs > 0) {
+            poller = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "calendar-invalidation-poller");
+                thread.setDaemon(true);
+                return thread;
+            });
+            poller.scheduleWithFixedDelay(this::pollOrLog, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // A failed poll must not cancel the ones after it; lastCaughtUp stays put, so the lag shows in the health check
+    private void pollOrLog() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            logger.warn("Polling calendar invalidations failed", e);
+        }
+    }
+
+    @Override
+    public long publish(Long employeeId) {
+        return invalidationRepository.save(new CalendarInvalidation(employeeId, nodeId, LocalDateTime.now())).getVersion();
+    }
+
+    public synchronized void poll() {
+        Instant now = Instant.now();
+        if (!gaps.isEmpty()) {
+            for (CalendarInvalidation late : invalidationRepository.findByVersionIn(List.copyOf(gaps.keySet()))) {
+                apply(late);
+                gaps.remove(late.getVersion());
+            }
+            Instant expired = now.minus(gapTimeout);
+            gaps.values().removeIf(skipped -> skipped.isBefore(expired));
+        }
+        List<CalendarInvalidation> batch;
+        do {
+            batch = invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(lastSeenVersion);
+            for (CalendarInvalidation invalidation : batch) {
+                long version = invalidation.getVersion();
+                for (long skipped = Math.max(lastSeenVersion + 1, version - MAX_TRACKED_GAPS); skipped < version; skipped++) {
+                    gaps.put(skipped, now);
+                }
+                apply(invalidation);
+                lastSeenVersion = version;
+            }
+        } while (batch.size() == POLL_BATCH_SIZE);
+        lastCaughtUp = now;
+    }
+
+    private void apply(CalendarInvalidation invalidation) {
+        if (!nodeId.equals(invalidation.getOrigin())) {
+            calendarIndex.evict(invalidation.getEmployeeId());
+        }
+    }
+
+    @Override
+    public Instant lastCaughtUp() {
+        return lastCaughtUp;
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.cache.invalidation.prune-interval-ms:60000}")
+    public void prune() {
+        int pruned = invalidationRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (pruned > 0) {
+            logger.debug("Pruned {} calendar invalidations older than {}", pruned, retention);
+        }
+    }
+}
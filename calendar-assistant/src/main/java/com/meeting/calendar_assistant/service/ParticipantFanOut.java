@@ -0,0 +1,92 @@
+package com.meeting.calendar_assistant.service;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Runs blocking per-participant lookups of one request concurrently, at most {@code calendar.fan-out.max-concurrency}
+ * at a time.
+ * <p>
+ * Work runs on the application task executor, which is backed by virtual threads when
+ * {@code spring.threads.virtual.enabled} is set. The calling thread takes part too and only waits for lookups
+ * that have actually started, so a saturated executor degrades to a sequential loop instead of stalling.
+ */
+@Component
+public class ParticipantFanOut {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+
+    public ParticipantFanOut(@Qualifier("applicationTaskExecutor") Executor executor,
+                             @Value("${calendar.fan-out.max-concurrency:1}") int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Fan-out concurrency must be positive: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    // Results are in the order of the given participants; the first lookup failure is rethrown
+    public <T> List<T> map(List<Long> participantIds, Function<Long, T> lookup) {
+        int size = participantIds.size();
+        int workers = Math.min(maxConcurrency, size);
+        if (workers <= 1) {
+            List<T> results = new ArrayList<>(size);
+            for (Long participantId : participantIds) {
+                results.add(lookup.apply(participantId));
+            }
+            return results;
+        }
+
+        Object[] results = new Object[size];
+        AtomicInteger next = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(size);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int i = next.getAndIncrement(); i < size; i = next.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        results[i] = lookup.apply(participantIds.get(i));
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        for (int w = 1; w < workers; w++) {
+            try {
+                executor.execute(worker);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        worker.run();
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while looking up participants", e);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        @SuppressWarnings("unchecked")
+        List<T> ordered = (List<T>) Arrays.asList(results);
+        return ordered;
+    }
+}
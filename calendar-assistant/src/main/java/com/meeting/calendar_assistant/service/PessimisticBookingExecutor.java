@@ -0,0 +1,80 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Serializes writes to the same calendar with the striped {@link EmployeeLocks}.
+ * <p>
+ * Each write runs in one transaction taken inside the locks, so it has committed before the next write to the
+ * same calendar can start, and what it publishes to the {@link CalendarInvalidationBus} commits with it.
+ * <p>
+ * The locks only exclude writers in this JVM. With the outbox bus the application runs as several replicas, so
+ * the transaction also takes a {@code PESSIMISTIC_WRITE} lock on the employees' rows, in ascending ID order, and
+ * writers on other nodes wait for it in the database.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.booking.concurrency", havingValue = "pessimistic", matchIfMissing = true)
+public class PessimisticBookingExecutor implements BookingExecutor {
+
+    private final EmployeeLocks employeeLocks;
+    // Null without a database, when the write runs under the locks alone
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final boolean lockRows;
+
+    // For callers without a database, such as unit tests and benchmarks
+    public PessimisticBookingExecutor(EmployeeLocks employeeLocks) {
+        this.employeeLocks = employeeLocks;
+        this.transactionTemplate = null;
+        this.entityManager = null;
+        this.lockRows = false;
+    }
+
+    @Autowired
+    public PessimisticBookingExecutor(EmployeeLocks employeeLocks, PlatformTransactionManager transactionManager,
+                                      EntityManager entityManager,
+                                      @Value("${calendar.cache.invalidation.bus:in-jvm}") String invalidationBus) {
+        this.employeeLocks = employeeLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.lockRows = "outbox".equals(invalidationBus);
+    }
+
+    @Override
+    public <T> T execute(Long employeeId, Supplier<T> calendarWrite) {
+        return employeeLocks.withLock(employeeId, () -> inTransaction(List.of(employeeId), calendarWrite));
+    }
+
+    // Employees that do not exist are skipped; callers validate them as part of the write
+    @Override
+    public <T> T executeForAll(Collection<Long> employeeIds, Supplier<T> calendarWrite) {
+        return employeeLocks.withLocks(employeeIds, () -> inTransaction(employeeIds, calendarWrite));
+    }
+
+    private <T> T inTransaction(Collection<Long> employeeIds, Supplier<T> calendarWrite) {
+        if (transactionTemplate == null) {
+            return calendarWrite.get();
+        }
+        return transactionTemplate.execute(status -> {
+            if (lockRows) {
+                for (Long employeeId : new TreeSet<>(employeeIds)) {
+                    entityManager.find(Employee.class, employeeId, LockModeType.PESSIMISTIC_WRITE);
+                }
+            }
+            return calendarWrite.get();
+        });
+    }
+}
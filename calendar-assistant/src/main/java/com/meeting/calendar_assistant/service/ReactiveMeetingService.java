@@ -0,0 +1,202 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.ReactiveMeetingRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link MeetingService} for the reactive profile.
+ * <p>
+ * Calendars come from the shared {@link CalendarIndex} and slots from the same searches as {@link MeetingService};
+ * only the I/O differs. Bookings run in one R2DBC transaction that first locks the employee's row, so they are serialized
+ * per employee across nodes. Searches are computed one day at a time as the client consumes them.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveMeetingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveMeetingService.class);
+    private static final LogSampler CONFLICT_LOG_SAMPLER = new LogSampler(Duration.ofSeconds(1));
+
+    @Autowired
+    private ReactiveMeetingRepository reactiveMeetingRepository;
+
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private CalendarIndex calendarIndex;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private CalendarInvalidationBus invalidationBus;
+
+    @Autowired(required = false)
+    private BookingEventLog bookingEventLog;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${calendar.fan-out.max-concurrency:1}")
+    private int maxConcurrency;
+
+    public Mono<Meeting> bookMeeting(Long employeeId, LocalDateTime startTime, LocalDateTime endTime, String title) {
+        if (startTime.isAfter(endTime)) {
+            return Mono.error(new IllegalArgumentException("Start time must be before end time"));
+        }
+        Employee employee = new Employee();
+        employee.setId(employeeId);
+        Meeting meeting = new Meeting(startTime, endTime, employee, title);
+        Set<ConstraintViolation<Meeting>> violations = validator.validate(meeting);
+        if (!violations.isEmpty()) {
+            return Mono.error(new IllegalArgumentException(violations.iterator().next().getMessage()));
+        }
+
+        Mono<Long> booking = reactiveMeetingRepository.claimCalendar(employeeId)
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new EmployeeNotFoundException("Employee not found"))
+                        : reactiveMeetingRepository.existsOverlapping(employeeId, startTime, endTime))
+                .flatMap(overlapping -> overlapping ? Mono.just(true) : overlapsRecurringSeries(employeeId, startTime, endTime))
+                .flatMap(overlapping -> {
+                    if (overlapping) {
+                        logConflict(employeeId, startTime, endTime);
+                        return Mono.error(new MeetingConflictException("Meeting time conflicts with existing meetings"));
+                    }
+                    return reactiveMeetingRepository.insert(employeeId, startTime, endTime, title);
+                });
+
+        return transactionalOperator.transactional(booking)
+                .map(id -> {
+                    meeting.setId(id);
+                    return meeting;
+                })
+                // The log's group commit completes the future, so no thread waits on the sync. The booking is
+                // committed by then, so a failed write only leaves its calendars to be read from the database.
+                .flatMap(saved -> bookingEventLog == null ? Mono.just(saved)
+                        : Mono.fromFuture(() -> bookingEventLog.booked(List.of(saved)))
+                                .onErrorResume(failure -> {
+                                    logger.warn("Booking event log write failed for meeting={}, reading its calendars "
+                                            + "from the database", saved.getId(), failure);
+                                    return Mono.empty();
+                                })
+                                .thenReturn(saved))
+                .map(saved -> {
+                    calendarIndex.add(saved);
+                    return saved;
+                })
+                .flatMap(saved -> publish(employeeId).thenReturn(saved));
+    }
+
+    // Same slots as MeetingService#findFreeSlots(Long, Long, int)
+    public Flux<LocalDateTime> findFreeSlots(Long employee1Id, Long employee2Id, int durationInMinutes) {
+        return calendarsOf(List.of(employee1Id, employee2Id))
+                .flatMapIterable(calendars -> meetingService.findFreeSlotsToday(calendars, durationInMinutes));
+    }
+
+    // Same slots as MeetingService#findFreeSlots(List, ...), found a day at a time so the first ones arrive early.
+    // Invalid arguments are rejected before anything is subscribed to.
+    public Flux<LocalDateTime> findFreeSlots(List<Long> participantIds, LocalDateTime from, LocalDateTime to,
+                                             int durationInMinutes, int granularityInMinutes) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        if (durationInMinutes <= 0 || granularityInMinutes <= 0) {
+            throw new IllegalArgumentException("Duration and granularity must be positive");
+        }
+
+        return calendarsOf(participantIds).flatMapMany(calendars -> {
+            Map<Long, EmployeeCalendar> calendarsByEmployee = MeetingService.byEmployee(participantIds, calendars);
+            return Flux.<LocalDateTime, LocalDateTime>generate(() -> from, (dayStart, days) -> {
+                        if (dayStart.isBefore(to)) {
+                            days.next(dayStart);
+                        } else {
+                            days.complete();
+                        }
+                        return dayStart.plusDays(1);
+                    })
+                    .concatMapIterable(dayStart -> meetingService.freeSlotsStartingOn(calendarsByEmployee, dayStart, to,
+                            durationInMinutes, granularityInMinutes));
+        });
+    }
+
+    // Same slots as MeetingService#findNextSlots; the day-by-day search only runs as far as the client reads
+    public Flux<LocalDateTime> findNextSlots(List<Long> participantIds, int durationInMinutes, LocalDateTime from,
+                                             int limit) {
+        if (durationInMinutes <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("Duration and limit must be positive");
+        }
+        return calendarsOf(participantIds).flatMapMany(calendars -> Flux.fromStream(() ->
+                meetingService.nextSlots(MeetingService.byEmployee(participantIds, calendars), durationInMinutes, from, limit)));
+    }
+
+    public Flux<Long> findConflictedParticipants(List<Long> participantIds, LocalDateTime startTime, LocalDateTime endTime) {
+        long start = EmployeeCalendar.toEpochSecond(startTime);
+        long end = EmployeeCalendar.toEpochSecond(endTime);
+        return calendarsOf(participantIds).flatMapIterable(calendars -> {
+            List<Long> conflictedParticipants = new ArrayList<>();
+            for (int i = 0; i < participantIds.size(); i++) {
+                if (calendars.get(i).overlaps(start, end)) {
+                    conflictedParticipants.add(participantIds.get(i));
+                }
+            }
+            return conflictedParticipants;
+        });
+    }
+
+    // Calendars in participant order, loaded concurrently up to the fan-out limit
+    private Mono<List<EmployeeCalendar>> calendarsOf(List<Long> participantIds) {
+        return Flux.fromIterable(participantIds)
+                .flatMapSequential(calendarIndex::reactiveCalendarOf, maxConcurrency)
+                .collectList();
+    }
+
+    private Mono<Boolean> overlapsRecurringSeries(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        long start = EmployeeCalendar.toEpochSecond(startTime);
+        long end = EmployeeCalendar.toEpochSecond(endTime);
+        return reactiveMeetingRepository.findRecurringSeries(employeeId)
+                .any(series -> RecurrenceRule.of(series).overlaps(start, end));
+    }
+
+    // Logged like the conflicts of MeetingService: each one at DEBUG, otherwise sampled
+    private void logConflict(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Booking conflict employee={} start={} end={}", employeeId, startTime, endTime);
+            return;
+        }
+        long suppressed = CONFLICT_LOG_SAMPLER.sample();
+        if (suppressed >= 0) {
+            logger.info("Booking conflict employee={} start={} end={} suppressed={}", employeeId, startTime, endTime, suppressed);
+        }
+    }
+
+    // The outbox bus writes through JPA, so publishing is moved off the event loop. It cannot join the R2DBC
+    // transaction, so here the invalidation follows the commit instead of committing with it.
+    private Mono<Void> publish(Long employeeId) {
+        return Mono.fromRunnable(() -> invalidationBus.publish(employeeId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
@@ -0,0 +1,143 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * Immutable, epoch-second form of a {@link RecurringMeeting} that is held by an {@link EmployeeCalendar}.
+ * <p>
+ * Occurrences are never materialized for the whole series: the first occurrence still running at a given
+ * instant is found arithmetically for daily and weekly series, and after a short walk for monthly ones,
+ * so expanding a window costs O(k) for the k occurrences inside it regardless of how long the series runs.
+ * Monthly occurrences keep the day of month of the first one, or fall on the last day of shorter months.
+ */
+public final class RecurrenceRule {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final long seriesId;
+    private final long firstStart;
+    private final long durationSeconds;
+    private final RecurringMeeting.Frequency frequency;
+    private final int repeatEvery;
+    private final long lastStart;
+    private final long[] skippedStarts;
+
+    private RecurrenceRule(long seriesId, long firstStart, long durationSeconds, RecurringMeeting.Frequency frequency,
+                           int repeatEvery, long lastStart, long[] skippedStarts) {
+        this.seriesId = seriesId;
+        this.firstStart = firstStart;
+        this.durationSeconds = durationSeconds;
+        this.frequency = frequency;
+        this.repeatEvery = repeatEvery;
+        this.lastStart = lastStart;
+        this.skippedStarts = skippedStarts;
+    }
+
+    // A series that is not saved yet gets ID 0
+    public static RecurrenceRule of(RecurringMeeting series) {
+        long firstStart = EmployeeCalendar.toEpochSecond(series.getStartTime());
+        long[] skippedStarts = series.getSkippedOccurrences().stream()
+                .mapToLong(EmployeeCalendar::toEpochSecond)
+                .sorted()
+                .toArray();
+        return new RecurrenceRule(series.getId() != null ? series.getId() : 0, firstStart,
+                EmployeeCalendar.toEpochSecond(series.getEndTime()) - firstStart, series.getFrequency(),
+                series.getRepeatEvery(),
+                series.getRepeatUntil() != null ? EmployeeCalendar.toEpochSecond(series.getRepeatUntil()) : Long.MAX_VALUE,
+                skippedStarts);
+    }
+
+    public long seriesId() {
+        return seriesId;
+    }
+
+    public long durationSeconds() {
+        return durationSeconds;
+    }
+
+    // True if an occurrence can last into the next one; months are taken as 28 days
+    public boolean occurrencesOverlapEachOther() {
+        long shortestPeriod = frequency == RecurringMeeting.Frequency.MONTHLY ? 28 * SECONDS_PER_DAY * repeatEvery : periodSeconds();
+        return durationSeconds > shortestPeriod;
+    }
+
+    // True if the series has an occurrence starting exactly at the given instant, skipped or not
+    public boolean isOccurrence(long start) {
+        if (start < firstStart || start > lastStart) {
+            return false;
+        }
+        long index = firstIndexEndingAfter(start - 1 + durationSeconds);
+        return occurrenceStart(index) == start;
+    }
+
+    // True if any occurrence overlaps [start, end)
+    public boolean overlaps(long start, long end) {
+        for (long index = firstIndexEndingAfter(start); ; index++) {
+            long occurrenceStart = occurrenceStart(index);
+            if (occurrenceStart >= end || occurrenceStart > lastStart) {
+                return false;
+            }
+            if (!isSkipped(occurrenceStart)) {
+                return true;
+            }
+        }
+    }
+
+    // Starts of the occurrences overlapping [start, end), ascending
+    public long[] occurrencesOverlapping(long start, long end) {
+        long[] starts = new long[8];
+        int count = 0;
+        for (long index = firstIndexEndingAfter(start); ; index++) {
+            long occurrenceStart = occurrenceStart(index);
+            if (occurrenceStart >= end || occurrenceStart > lastStart) {
+                break;
+            }
+            if (isSkipped(occurrenceStart)) {
+                continue;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            starts[count++] = occurrenceStart;
+        }
+        return Arrays.copyOf(starts, count);
+    }
+
+    // Index of the first occurrence that ends after the given instant
+    private long firstIndexEndingAfter(long instant) {
+        long latestStart = instant - durationSeconds;
+        if (latestStart < firstStart) {
+            return 0;
+        }
+        if (frequency != RecurringMeeting.Frequency.MONTHLY) {
+            return Math.floorDiv(latestStart - firstStart, periodSeconds()) + 1;
+        }
+        // Estimate from the calendar months in between, then walk the last step or two
+        LocalDateTime first = EmployeeCalendar.fromEpochSecond(firstStart);
+        LocalDateTime latest = EmployeeCalendar.fromEpochSecond(latestStart);
+        long months = (latest.getYear() - first.getYear()) * 12L + latest.getMonthValue() - first.getMonthValue();
+        long index = Math.max(0, months / repeatEvery - 1);
+        while (occurrenceStart(index) <= latestStart) {
+            index++;
+        }
+        return index;
+    }
+
+    private long occurrenceStart(long index) {
+        if (frequency == RecurringMeeting.Frequency.MONTHLY) {
+            return EmployeeCalendar.toEpochSecond(EmployeeCalendar.fromEpochSecond(firstStart).plusMonths(index * repeatEvery));
+        }
+        return firstStart + index * periodSeconds();
+    }
+
+    private long periodSeconds() {
+        return (frequency == RecurringMeeting.Frequency.WEEKLY ? 7 : 1) * SECONDS_PER_DAY * repeatEvery;
+    }
+
+    private boolean isSkipped(long occurrenceStart) {
+        return skippedStarts.length > 0 && Arrays.binarySearch(skippedStarts, occurrenceStart) >= 0;
+    }
+}
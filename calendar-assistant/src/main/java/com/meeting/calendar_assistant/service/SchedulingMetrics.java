@@ -0,0 +1,105 @@
+package com.meeting.calendar_assistant.service;
+
+import com.meeting.calendar_assistant.exception.ConcurrentBookingException;
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.exception.MeetingNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Meters for the scheduling hot paths, published under {@code calendar.*} and scraped from {@code /actuator/prometheus}.
+ * <p>
+ * Each operation has a timer with a percentile histogram, tagged with its outcome (success, conflict, contention,
+ * not-found, invalid or error), and distributions of participants per request, meetings scanned per check and slots
+ * returned per search. Rejected bookings, conflicted participants and lookups of unknown employees or meetings
+ * are counted as well. Meters are tagged with the operation, so dashboards can tell the paths apart.
+ */
+@Component
+public class SchedulingMetrics {
+
+    public static final String BOOK = "book";
+    public static final String FREE_SLOTS = "free-slots";
+    public static final String CONFLICTS = "conflicts";
+    public static final String BOOK_GROUP = "book-group";
+
+    private final MeterRegistry meterRegistry;
+
+    public SchedulingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Times the operation and counts conflicts and unknown IDs among its failures
+    public <T> T record(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (ConcurrentBookingException e) {
+            // Given up under contention; the optimistic executor counts these as aborts, not as overlaps
+            outcome = "contention";
+            throw e;
+        } catch (MeetingConflictException e) {
+            outcome = "conflict";
+            conflicts(operation, 1);
+            throw e;
+        } catch (EmployeeNotFoundException | MeetingNotFoundException e) {
+            outcome = "not-found";
+            Counter.builder("calendar.not-found")
+                    .description("Requests naming an employee or meeting that does not exist")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        } catch (IllegalArgumentException e) {
+            outcome = "invalid";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("calendar.operation")
+                    .description("Time spent in a scheduling operation")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    // Rejected bookings, or participants found busy by a conflict check
+    public void conflicts(String operation, int count) {
+        if (count > 0) {
+            Counter.builder("calendar.conflicts")
+                    .description("Bookings rejected, or participants found busy, because of overlapping meetings")
+                    .tag("operation", operation)
+                    .register(meterRegistry)
+                    .increment(count);
+        }
+    }
+
+    public void participants(String operation, int count) {
+        summary("calendar.request.participants", "Participants named in a request", operation).record(count);
+    }
+
+    // Meetings found overlapping the requested time, or the recurring series evaluated when none did
+    public void meetingsScanned(String operation, long count) {
+        summary("calendar.meetings.scanned", "Overlapping meetings, or recurring series evaluated, per check", operation).record(count);
+    }
+
+    public void slotsReturned(String operation, int count) {
+        summary("calendar.free-slots.returned", "Slots returned per free-slot search", operation).record(count);
+    }
+
+    private DistributionSummary summary(String name, String description, String operation) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
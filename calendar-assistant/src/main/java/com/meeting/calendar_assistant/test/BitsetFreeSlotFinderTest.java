@@ -0,0 +1,100 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.service.BitsetFreeSlotFinder;
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import com.meeting.calendar_assistant.service.FreeSlotFinder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitsetFreeSlotFinderTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private final BitsetFreeSlotFinder bitsetFreeSlotFinder = new BitsetFreeSlotFinder(15);
+
+    @Test
+    void findFreeSlots_IntersectsParticipantsAcrossMidnight() {
+        Map<Long, EmployeeCalendar> calendars = new LinkedHashMap<>();
+        calendars.put(1L, calendar(new LocalDateTime[][]{{DAY.withHour(22), DAY.plusDays(1).withHour(1)}}));
+        calendars.put(2L, calendar(new LocalDateTime[][]{{DAY.plusDays(1).withHour(2), DAY.plusDays(1).withHour(3)}}));
+
+        List<LocalDateTime> freeSlots = bitsetFreeSlotFinder.findFreeSlots(calendars,
+                DAY.withHour(21), DAY.plusDays(1).withHour(4), 60, 60);
+
+        assertEquals(List.of(DAY.withHour(21), DAY.plusDays(1).withHour(1), DAY.plusDays(1).withHour(3)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_RoundsBusyTimeOutToWholeCells() {
+        Map<Long, EmployeeCalendar> calendars = Map.of(1L,
+                calendar(new LocalDateTime[][]{{DAY.withHour(9).withMinute(5), DAY.withHour(9).withMinute(20)}}));
+
+        List<LocalDateTime> freeSlots = bitsetFreeSlotFinder.findFreeSlots(calendars,
+                DAY.withHour(9), DAY.withHour(10), 15, 15);
+
+        assertEquals(List.of(DAY.withHour(9).withMinute(30), DAY.withHour(9).withMinute(45)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_MatchesSweepEngineOnAlignedCalendars() {
+        Random random = new Random(42);
+        Map<Long, EmployeeCalendar> calendars = new LinkedHashMap<>();
+        for (long employeeId = 1; employeeId <= 10; employeeId++) {
+            LocalDateTime[][] meetings = new LocalDateTime[20][];
+            for (int i = 0; i < meetings.length; i++) {
+                LocalDateTime start = DAY.plusMinutes(15L * random.nextInt(7 * 96));
+                meetings[i] = new LocalDateTime[]{start, start.plusMinutes(15L * (1 + random.nextInt(8)))};
+            }
+            calendars.put(employeeId, calendar(meetings));
+        }
+
+        LocalDateTime from = DAY.plusHours(3);
+        LocalDateTime to = DAY.plusDays(6);
+        assertEquals(new FreeSlotFinder().findFreeSlots(calendars, from, to, 45, 30),
+                bitsetFreeSlotFinder.findFreeSlots(calendars, from, to, 45, 30));
+    }
+
+    @Test
+    void findFreeSlots_RebuildsTheBitmapsOfAReplacedCalendar() {
+        LocalDateTime from = DAY.withHour(9);
+        LocalDateTime to = DAY.withHour(11);
+        EmployeeCalendar calendar = calendar(new LocalDateTime[][]{{DAY.withHour(9), DAY.withHour(10)}});
+        assertEquals(List.of(DAY.withHour(10)), bitsetFreeSlotFinder.findFreeSlots(Map.of(1L, calendar), from, to, 60, 60));
+
+        EmployeeCalendar booked = calendar.withMeeting(2L,
+                EmployeeCalendar.toEpochSecond(DAY.withHour(10)), EmployeeCalendar.toEpochSecond(DAY.withHour(11)));
+
+        assertEquals(List.of(), bitsetFreeSlotFinder.findFreeSlots(Map.of(1L, booked), from, to, 60, 60));
+        assertEquals(List.of(DAY.withHour(10)), bitsetFreeSlotFinder.findFreeSlots(Map.of(1L, calendar), from, to, 60, 60));
+    }
+
+    @Test
+    void findFreeSlots_RejectsGranularityFinerThanCells() {
+        assertThrows(IllegalArgumentException.class, () ->
+                bitsetFreeSlotFinder.findFreeSlots(Map.of(), DAY, DAY.plusHours(1), 30, 10));
+    }
+
+    @Test
+    void constructor_RejectsCellSizeThatDoesNotDivideDay() {
+        assertThrows(IllegalArgumentException.class, () -> new BitsetFreeSlotFinder(7));
+    }
+
+    private EmployeeCalendar calendar(LocalDateTime[][] meetings) {
+        long[] starts = new long[meetings.length];
+        long[] ends = new long[meetings.length];
+        long[] ids = new long[meetings.length];
+        for (int i = 0; i < meetings.length; i++) {
+            starts[i] = EmployeeCalendar.toEpochSecond(meetings[i][0]);
+            ends[i] = EmployeeCalendar.toEpochSecond(meetings[i][1]);
+            ids[i] = i + 1;
+        }
+        return EmployeeCalendar.of(starts, ends, ids);
+    }
+}
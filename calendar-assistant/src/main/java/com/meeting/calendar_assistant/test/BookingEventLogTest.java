@@ -0,0 +1,287 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.ParticipantBusyInterval;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.BookingEventLog;
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BookingEventLogTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 7, 9, 0);
+    private static final Duration WRITE_TIMEOUT = Duration.ofSeconds(5);
+    private static final String DATASOURCE_URL = "jdbc:h2:file:./data/calendar";
+
+    @TempDir
+    Path directory;
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final List<BookingEventLog> opened = new ArrayList<>();
+    // The committed meetings by ID, which the repository answers from
+    private final ConcurrentSkipListMap<Long, Meeting> database = new ConcurrentSkipListMap<>();
+
+    @BeforeEach
+    void setUp() {
+        when(meetingRepository.count()).thenAnswer(invocation -> (long) database.size());
+        when(meetingRepository.findMaxId()).thenAnswer(invocation -> database.isEmpty() ? 0L : database.lastKey());
+        when(meetingRepository.findAllOrganizedBusyIntervals()).thenAnswer(invocation -> database.values().stream()
+                .map(meeting -> interval(meeting.getEmployee().getId(), meeting))
+                .toList());
+        when(meetingRepository.findAllAttendedBusyIntervals()).thenAnswer(invocation -> database.values().stream()
+                .flatMap(meeting -> meeting.getAttendees().stream().map(attendee -> interval(attendee.getId(), meeting)))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (BookingEventLog log : opened) {
+            log.close();
+        }
+    }
+
+    @Test
+    void restart_RecoversBookingsAndCancellationsForEveryParticipant() throws Exception {
+        BookingEventLog log = open();
+        book(log, meeting(10L, 1L, 0, 2L));
+        book(log, meeting(11L, 1L, 2));
+        cancel(log, meeting(11L, 1L, 2));
+        book(log, meeting(12L, 3L, 0));
+        close(log);
+
+        BookingEventLog restarted = open();
+
+        assertMeetings(restarted.calendarOf(1L), 10L);
+        assertMeetings(restarted.calendarOf(2L), 10L);
+        assertMeetings(restarted.calendarOf(3L), 12L);
+        assertEquals(0, restarted.calendarOf(4L).size());
+        verify(meetingRepository, times(1)).findAllOrganizedBusyIntervals();
+    }
+
+    @Test
+    void snapshot_DropsReplacedSegmentsAndRestartReplaysOnlyTheTail() throws Exception {
+        BookingEventLog log = open();
+        book(log, meeting(10L, 1L, 0));
+        book(log, meeting(11L, 2L, 0));
+        log.snapshot();
+        book(log, meeting(12L, 1L, 2));
+        close(log);
+
+        assertEquals(List.of("segment-0000000000000001.log", "snapshot-0000000000000001.bin"), files());
+        assertMeetings(log.calendarOf(1L), 10L, 12L);
+        assertMeetings(log.calendarOf(2L), 11L);
+
+        BookingEventLog restarted = open();
+
+        assertMeetings(restarted.calendarOf(1L), 10L, 12L);
+        assertMeetings(restarted.calendarOf(2L), 11L);
+    }
+
+    @Test
+    void restart_DiscardsATornFinalRecord() throws Exception {
+        BookingEventLog log = open();
+        book(log, meeting(10L, 1L, 0));
+        close(log);
+        Path segment = directory.resolve("segment-0000000000000000.log");
+        long intact = Files.size(segment);
+        // A crash in the middle of the next record
+        Files.write(segment, new byte[]{1, 0, 0, 0, 0, 0, 0, 0, 11, 0, 0}, StandardOpenOption.APPEND);
+
+        BookingEventLog restarted = open();
+
+        assertMeetings(restarted.calendarOf(1L), 10L);
+        assertEquals(intact, Files.size(segment));
+    }
+
+    @Test
+    void start_SeedsFromTheDatabaseWhenThereIsNoLog() throws Exception {
+        database.put(10L, meeting(10L, 1L, 0, 2L));
+
+        BookingEventLog log = open();
+        close(log);
+        BookingEventLog restarted = open();
+
+        assertMeetings(restarted.calendarOf(1L), 10L);
+        assertMeetings(restarted.calendarOf(2L), 10L);
+        verify(meetingRepository, times(1)).findAllOrganizedBusyIntervals();
+    }
+
+    @Test
+    void restart_ReseedsWhenTheDatabaseWasRecreatedEmpty() throws Exception {
+        BookingEventLog log = open();
+        book(log, meeting(10L, 1L, 0, 2L));
+        close(log);
+        database.clear();
+
+        BookingEventLog restarted = open();
+
+        assertEquals(0, restarted.calendarOf(1L).size());
+        assertEquals(0, restarted.calendarOf(2L).size());
+        assertEquals(List.of("segment-0000000000000001.log", "snapshot-0000000000000001.bin"), files());
+    }
+
+    @Test
+    void restart_ReseedsABookingCommittedButNeverLogged() throws Exception {
+        BookingEventLog log = open();
+        book(log, meeting(10L, 1L, 0));
+        close(log);
+        // The process died between the commit and the log write
+        database.put(11L, meeting(11L, 1L, 2));
+
+        BookingEventLog restarted = open();
+
+        assertMeetings(restarted.calendarOf(1L), 10L, 11L);
+    }
+
+    @Test
+    void booked_ConcurrentWritersAreAllDurable() throws Exception {
+        BookingEventLog log = open();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                long employeeId = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        book(log, meeting(employeeId * 100 + i, employeeId, 2 * i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        close(log);
+
+        BookingEventLog restarted = open();
+
+        for (long employeeId = 0; employeeId < 16; employeeId++) {
+            assertEquals(50, restarted.calendarOf(employeeId).size());
+        }
+        verify(meetingRepository, times(1)).findAllOrganizedBusyIntervals();
+    }
+
+    @Test
+    void booked_FailsOnceClosedAndLeavesTheCalendarsToTheDatabase() throws Exception {
+        BookingEventLog log = open();
+        book(log, meeting(10L, 1L, 0));
+        List<Long> diverged = new ArrayList<>();
+        log.onDiverged(diverged::add);
+        close(log);
+
+        CompletableFuture<Void> written = log.booked(List.of(meeting(11L, 1L, 2, 2L)));
+
+        assertTrue(written.isCompletedExceptionally());
+        assertEquals(List.of(1L, 2L), diverged);
+        assertNull(log.calendarOf(1L));
+        assertNull(log.calendarOf(2L));
+    }
+
+    @Test
+    void constructor_RefusesTheOutboxBus() {
+        assertThrows(IllegalStateException.class,
+                () -> new BookingEventLog(meetingRepository, directory, "outbox", DATASOURCE_URL, WRITE_TIMEOUT));
+    }
+
+    @Test
+    void constructor_RefusesAnInMemoryDatabase() {
+        assertThrows(IllegalStateException.class,
+                () -> new BookingEventLog(meetingRepository, directory, "in-jvm", "jdbc:h2:mem:testdb", WRITE_TIMEOUT));
+    }
+
+    private BookingEventLog open() throws IOException {
+        BookingEventLog log = new BookingEventLog(meetingRepository, directory, "in-jvm", DATASOURCE_URL, WRITE_TIMEOUT);
+        log.start();
+        opened.add(log);
+        return log;
+    }
+
+    private void close(BookingEventLog log) throws Exception {
+        log.close();
+        opened.remove(log);
+    }
+
+    // Commits the meeting, then logs it, as MeetingService does
+    private void book(BookingEventLog log, Meeting meeting) {
+        database.put(meeting.getId(), meeting);
+        log.booked(List.of(meeting)).join();
+    }
+
+    private void cancel(BookingEventLog log, Meeting meeting) {
+        database.remove(meeting.getId());
+        log.cancelled(meeting).join();
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    // A one-hour meeting starting the given number of hours after START
+    private static Meeting meeting(Long meetingId, Long organizerId, int hour, Long... attendeeIds) {
+        Meeting meeting = new Meeting(START.plusHours(hour), START.plusHours(hour + 1), employee(organizerId), "Logged");
+        meeting.setId(meetingId);
+        for (Long attendeeId : attendeeIds) {
+            meeting.getAttendees().add(employee(attendeeId));
+        }
+        return meeting;
+    }
+
+    private static Employee employee(Long id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+
+    private static ParticipantBusyInterval interval(Long employeeId, Meeting meeting) {
+        return new ParticipantBusyInterval() {
+            public Long getEmployeeId() {
+                return employeeId;
+            }
+
+            public Long getId() {
+                return meeting.getId();
+            }
+
+            public LocalDateTime getStartTime() {
+                return meeting.getStartTime();
+            }
+
+            public LocalDateTime getEndTime() {
+                return meeting.getEndTime();
+            }
+        };
+    }
+
+    private static void assertMeetings(EmployeeCalendar calendar, long... meetingIds) {
+        assertEquals(meetingIds.length, calendar.size());
+        for (int i = 0; i < meetingIds.length; i++) {
+            assertEquals(meetingIds[i], calendar.meetingIdAt(i));
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.model.BusyInterval;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
+import com.meeting.calendar_assistant.service.BookingEventLog;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CalendarIndexTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private RecurringMeetingRepository recurringMeetingRepository;
+
+    // Has no calendars unless stubbed, so loads fall back to the repositories
+    @Mock
+    private BookingEventLog bookingEventLog;
+
+    @InjectMocks
+    private CalendarIndex calendarIndex = new CalendarIndex();
+
+    @InjectMocks
+    private CalendarIndex offHeapIndex = new CalendarIndex(100, Duration.ofMinutes(10), "off-heap");
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employee = new Employee("Bulbul");
+        employee.setId(1L);
+        // Load employee 1's (empty) calendar so that updates apply to the cached copy
+        calendarIndex.calendarOf(1L);
+    }
+
+    @Test
+    void findOverlapping_ReturnsOnlyTouchingMeetings() {
+        calendarIndex.add(meeting(1L, 9, 10));
+        calendarIndex.add(meeting(2L, 11, 12));
+        calendarIndex.add(meeting(3L, 13, 14));
+
+        assertEquals(List.of(2L), calendarIndex.findOverlapping(1L, DAY.withHour(10), DAY.withHour(12)));
+        assertEquals(List.of(1L, 2L, 3L), calendarIndex.findOverlapping(1L, DAY.withHour(9), DAY.withHour(14)));
+        assertTrue(calendarIndex.findOverlapping(1L, DAY.withHour(12), DAY.withHour(13)).isEmpty());
+    }
+
+    @Test
+    void findOverlapping_FindsLongMeetingStartingEarlier() {
+        calendarIndex.add(meeting(1L, 8, 18));
+        calendarIndex.add(meeting(2L, 9, 10));
+
+        assertEquals(List.of(1L), calendarIndex.findOverlapping(1L, DAY.withHour(15), DAY.withHour(16)));
+    }
+
+    @Test
+    void remove_DropsMeetingFromCalendar() {
+        Meeting meeting = meeting(1L, 9, 10);
+        calendarIndex.add(meeting);
+        calendarIndex.remove(meeting);
+
+        assertFalse(calendarIndex.hasOverlap(1L, DAY.withHour(9), DAY.withHour(10)));
+        assertEquals(0, calendarIndex.calendarOf(1L).size());
+    }
+
+    @Test
+    void add_IsIdempotent() {
+        Meeting meeting = meeting(1L, 9, 10);
+        calendarIndex.add(meeting);
+        calendarIndex.add(meeting);
+
+        assertEquals(1, calendarIndex.calendarOf(1L).size());
+    }
+
+    @Test
+    void calendarOf_LoadsOnceAndServesFromMemory() {
+        when(meetingRepository.findBusyIntervalsByEmployee_Id(2L))
+                .thenReturn(List.of(interval(5L, 13, 14), interval(4L, 9, 10)));
+
+        assertTrue(calendarIndex.hasOverlap(2L, DAY.withHour(9), DAY.withHour(10)));
+        assertEquals(List.of(4L, 5L), calendarIndex.findOverlapping(2L, DAY.withHour(8), DAY.withHour(18)));
+        verify(meetingRepository, times(1)).findBusyIntervalsByEmployee_Id(2L);
+    }
+
+    @Test
+    void add_LeavesUncachedCalendarsToBeLoaded() {
+        Employee other = new Employee("Other");
+        other.setId(2L);
+        Meeting meeting = new Meeting(DAY.withHour(9), DAY.withHour(10), other, "Not cached");
+        meeting.setId(6L);
+        calendarIndex.add(meeting);
+
+        when(meetingRepository.findBusyIntervalsByEmployee_Id(2L)).thenReturn(List.of(interval(6L, 9, 10), interval(7L, 11, 12)));
+
+        assertEquals(2, calendarIndex.calendarOf(2L).size());
+    }
+
+    @Test
+    void evict_ReloadsOnNextRead() {
+        calendarIndex.add(meeting(1L, 9, 10));
+        calendarIndex.evict(1L);
+
+        assertEquals(0, calendarIndex.calendarOf(1L).size());
+        verify(meetingRepository, times(2)).findBusyIntervalsByEmployee_Id(1L);
+    }
+
+    @Test
+    void calendarOf_TakesSingleMeetingsFromTheEventLogUnlessItDiverged() {
+        when(bookingEventLog.calendarOf(2L))
+                .thenReturn(EmployeeCalendar.of(new long[]{epoch(9)}, new long[]{epoch(10)}, new long[]{4L}));
+        when(meetingRepository.findBusyIntervalsByEmployee_Id(3L)).thenReturn(List.of(interval(5L, 11, 12)));
+
+        assertEquals(List.of(4L), calendarIndex.findOverlapping(2L, DAY.withHour(8), DAY.withHour(18)));
+        assertEquals(List.of(5L), calendarIndex.findOverlapping(3L, DAY.withHour(8), DAY.withHour(18)));
+        verify(meetingRepository, never()).findBusyIntervalsByEmployee_Id(2L);
+    }
+
+    @Test
+    void addSeries_ProbesOccurrencesAndListsTheSeriesOnce() {
+        RecurringMeeting standup = series(employee, 60L, 9, 10);
+        calendarIndex.add(meeting(1L, 11, 12));
+        calendarIndex.addSeries(standup);
+
+        assertTrue(calendarIndex.hasOverlap(1L, DAY.plusDays(30).withHour(9).withMinute(30), DAY.plusDays(30).withHour(11)));
+        assertEquals(List.of(60L, 1L), calendarIndex.findOverlapping(1L, DAY.withHour(8), DAY.plusDays(2)));
+
+        calendarIndex.removeSeries(standup);
+        assertFalse(calendarIndex.hasOverlap(1L, DAY.plusDays(30).withHour(9), DAY.plusDays(30).withHour(10)));
+    }
+
+    @Test
+    void calendarOf_LoadsRecurringSeries() {
+        Employee other = new Employee("Other");
+        other.setId(2L);
+        when(recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(2L)).thenReturn(List.of(series(other, 61L, 9, 10)));
+
+        assertEquals(1, calendarIndex.calendarOf(2L).seriesCount());
+        assertTrue(calendarIndex.hasOverlap(2L, DAY.plusDays(5).withHour(9), DAY.plusDays(5).withHour(10)));
+    }
+
+    @Test
+    void offHeapStorage_KeepsCalendarsOffHeapThroughUpdates() {
+        when(meetingRepository.findBusyIntervalsByEmployee_Id(1L))
+                .thenReturn(List.of(interval(1L, 9, 10), interval(2L, 13, 14)));
+        offHeapIndex.calendarOf(1L);
+        offHeapIndex.add(meeting(3L, 11, 12));
+        offHeapIndex.remove(meeting(1L, 9, 10));
+        offHeapIndex.addSeries(series(employee, 60L, 8, 9));
+
+        EmployeeCalendar calendar = offHeapIndex.calendarOf(1L);
+        assertTrue(calendar.isOffHeap());
+        assertEquals(List.of(60L, 3L, 2L), offHeapIndex.findOverlapping(1L, DAY.withHour(8), DAY.withHour(18)));
+        assertFalse(offHeapIndex.hasOverlap(1L, DAY.withHour(9), DAY.withHour(10)));
+    }
+
+    @Test
+    void offHeap_AnswersProbesLikeTheHeapCalendar() {
+        Random random = new Random(42);
+        int size = 500;
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = random.nextInt(100_000);
+            ends[i] = starts[i] + 1 + random.nextInt(5_000);
+            ids[i] = i;
+        }
+        // One meeting running across most of the others, as the index must not scan everything before its end
+        ends[0] = starts[0] + 150_000;
+        EmployeeCalendar heap = EmployeeCalendar.of(starts, ends, ids);
+        EmployeeCalendar offHeap = heap.offHeap();
+        List<EmployeeCalendar[]> versions = new ArrayList<>();
+        for (int update = 0; update < 300; update++) {
+            versions.add(new EmployeeCalendar[]{heap, offHeap});
+            if (update % 50 == 49) {
+                // Update an older version again, so that two calendars compete for the same spare slot
+                EmployeeCalendar[] older = versions.get(versions.size() - 2);
+                heap = older[0];
+                offHeap = older[1];
+            }
+            if (random.nextBoolean()) {
+                // Half of the additions come after every other meeting, which fills a spare slot in place
+                long start = random.nextBoolean() ? 200_000 + 10L * update : random.nextInt(100_000);
+                heap = heap.withMeeting(size + update, start, start + 600);
+                offHeap = offHeap.withMeeting(size + update, start, start + 600);
+            } else {
+                long id = random.nextBoolean() ? heap.meetingIdAt(heap.size() - 1) : heap.meetingIdAt(random.nextInt(heap.size()));
+                heap = heap.withoutMeeting(id);
+                offHeap = offHeap.withoutMeeting(id);
+            }
+        }
+        versions.add(new EmployeeCalendar[]{heap, offHeap});
+
+        // Every version still answers as it did when it was made
+        for (EmployeeCalendar[] version : versions) {
+            assertFalse(version[0].isOffHeap());
+            assertTrue(version[1].isOffHeap());
+            assertEquals(version[0].size(), version[1].size());
+            for (int probe = 0; probe < 100; probe++) {
+                long start = random.nextInt(210_000);
+                long end = start + 1 + random.nextInt(2_000);
+                long[] expected = scanOverlapping(version[0], start, end);
+                int firstEndingAfter = scanFirstEndingAfter(version[0], start);
+                for (EmployeeCalendar calendar : version) {
+                    assertEquals(expected.length > 0, calendar.overlaps(start, end));
+                    assertEquals(expected.length, calendar.countOverlapping(start, end));
+                    assertArrayEquals(expected, calendar.overlapping(start, end));
+                    assertEquals(firstEndingAfter, calendar.firstEndingAfter(start));
+                }
+            }
+        }
+    }
+
+    private static long[] scanOverlapping(EmployeeCalendar calendar, long start, long end) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < calendar.size(); i++) {
+            if (calendar.startAt(i) < end && calendar.endAt(i) > start) {
+                ids.add(calendar.meetingIdAt(i));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static int scanFirstEndingAfter(EmployeeCalendar calendar, long instant) {
+        int i = 0;
+        while (i < calendar.size() && calendar.endAt(i) <= instant) {
+            i++;
+        }
+        return i;
+    }
+
+    @Test
+    void constructor_RejectsUnknownStorage() {
+        assertThrows(IllegalStateException.class, () -> new CalendarIndex(100, Duration.ofMinutes(10), "disk"));
+    }
+
+    // Daily series starting on DAY
+    private RecurringMeeting series(Employee owner, Long id, int startHour, int endHour) {
+        RecurringMeeting series = new RecurringMeeting(DAY.withHour(startHour), DAY.withHour(endHour),
+                RecurringMeeting.Frequency.DAILY, 1, null, owner, "Series " + id);
+        series.setId(id);
+        return series;
+    }
+
+    private Meeting meeting(Long id, int startHour, int endHour) {
+        Meeting meeting = new Meeting(DAY.withHour(startHour), DAY.withHour(endHour), employee, "Meeting " + id);
+        meeting.setId(id);
+        return meeting;
+    }
+
+    private static long epoch(int hour) {
+        return EmployeeCalendar.toEpochSecond(DAY.withHour(hour));
+    }
+
+    private BusyInterval interval(Long id, int startHour, int endHour) {
+        return new BusyInterval() {
+            public Long getId() {
+                return id;
+            }
+
+            public LocalDateTime getStartTime() {
+                return DAY.withHour(startHour);
+            }
+
+            public LocalDateTime getEndTime() {
+                return DAY.withHour(endHour);
+            }
+        };
+    }
+}
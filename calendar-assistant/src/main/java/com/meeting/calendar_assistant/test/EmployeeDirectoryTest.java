@@ -0,0 +1,64 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.service.EmployeeDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class EmployeeDirectoryTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private EmployeeDirectory employeeDirectory = new EmployeeDirectory();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void exists_CachesKnownEmployees() {
+        when(employeeRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(employeeDirectory.exists(1L));
+        assertTrue(employeeDirectory.exists(1L));
+        verify(employeeRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    void exists_RechecksUnknownEmployees() {
+        when(employeeRepository.existsById(2L)).thenReturn(false, true);
+
+        assertFalse(employeeDirectory.exists(2L));
+        assertTrue(employeeDirectory.exists(2L));
+    }
+
+    @Test
+    void referenceTo_UnknownEmployee() {
+        when(employeeRepository.existsById(3L)).thenReturn(false);
+
+        assertThrows(EmployeeNotFoundException.class, () -> employeeDirectory.referenceTo(3L));
+        verify(employeeRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    void referenceTo_KnownEmployeeSkipsLoading() {
+        Employee reference = new Employee();
+        reference.setId(4L);
+        when(employeeRepository.existsById(4L)).thenReturn(true);
+        when(employeeRepository.getReferenceById(4L)).thenReturn(reference);
+
+        assertSame(reference, employeeDirectory.referenceTo(4L));
+        verify(employeeRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,70 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import com.meeting.calendar_assistant.service.FreeSlotFinder;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeSlotFinderTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    private final FreeSlotFinder freeSlotFinder = new FreeSlotFinder();
+
+    @Test
+    void findFreeSlots_MergesBusyTimeOfAllParticipants() {
+        EmployeeCalendar first = calendar(new int[][]{{9, 10}, {13, 14}});
+        EmployeeCalendar second = calendar(new int[][]{{10, 11}});
+        EmployeeCalendar third = calendar(new int[][]{{8, 12}});
+
+        List<LocalDateTime> freeSlots = freeSlotFinder.findFreeSlots(List.of(first, second, third),
+                DAY.withHour(8), DAY.withHour(15), 60, 60);
+
+        assertEquals(List.of(DAY.withHour(12), DAY.withHour(14)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_IncludesExactFitAndAlignsToGranularity() {
+        EmployeeCalendar calendar = calendar(new int[][]{{9, 10}});
+
+        List<LocalDateTime> freeSlots = freeSlotFinder.findFreeSlots(List.of(calendar),
+                DAY.withHour(8).withMinute(10), DAY.withHour(10).withMinute(45), 30, 15);
+
+        assertEquals(List.of(DAY.withHour(8).withMinute(15), DAY.withHour(8).withMinute(30),
+                DAY.withHour(10), DAY.withHour(10).withMinute(15)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_MeetingRunningIntoHorizonBlocksIt() {
+        EmployeeCalendar calendar = calendar(new int[][]{{6, 12}, {7, 8}});
+
+        List<LocalDateTime> freeSlots = freeSlotFinder.findFreeSlots(List.of(calendar),
+                DAY.withHour(9), DAY.withHour(13), 60, 60);
+
+        assertEquals(List.of(DAY.withHour(12)), freeSlots);
+    }
+
+    @Test
+    void findFreeSlots_NoParticipantsMeansWholeHorizonIsFree() {
+        List<LocalDateTime> freeSlots = freeSlotFinder.findFreeSlots(List.of(),
+                DAY.withHour(9), DAY.withHour(11), 60, 30);
+
+        assertEquals(List.of(DAY.withHour(9), DAY.withHour(9).withMinute(30), DAY.withHour(10)), freeSlots);
+    }
+
+    private EmployeeCalendar calendar(int[][] hours) {
+        long[] starts = new long[hours.length];
+        long[] ends = new long[hours.length];
+        long[] ids = new long[hours.length];
+        for (int i = 0; i < hours.length; i++) {
+            starts[i] = EmployeeCalendar.toEpochSecond(DAY.withHour(hours[i][0]));
+            ends[i] = EmployeeCalendar.toEpochSecond(DAY.withHour(hours[i][1]));
+            ids[i] = i + 1;
+        }
+        return EmployeeCalendar.of(starts, ends, ids);
+    }
+}
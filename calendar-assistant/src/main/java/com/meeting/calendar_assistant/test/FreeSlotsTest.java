@@ -0,0 +1,50 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import com.meeting.calendar_assistant.service.FreeSlots;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeSlotsTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Test
+    void builder_KeepsRangesAndExpandsSlotsOnRead() {
+        FreeSlots freeSlots = new FreeSlots.Builder(30)
+                .addAligned(minute(DAY.withHour(9).withMinute(10)), minute(DAY.withHour(10).withMinute(30)), 30)
+                .addAligned(minute(DAY.withHour(11)), minute(DAY.withHour(11).withMinute(20)), 30)
+                .addAligned(minute(DAY.withHour(12)), minute(DAY.withHour(13)), 60)
+                .build();
+
+        assertEquals(2, freeSlots.rangeCount());
+        assertEquals(minute(DAY.withHour(9).withMinute(10)), freeSlots.gapStartMinute(0));
+        assertEquals(minute(DAY.withHour(9).withMinute(30)), freeSlots.firstSlotMinute(0));
+        assertEquals(2, freeSlots.slotCount(0));
+        assertEquals(1, freeSlots.slotCount(1));
+
+        List<LocalDateTime> expected = List.of(DAY.withHour(9).withMinute(30), DAY.withHour(10), DAY.withHour(12));
+        assertEquals(expected, freeSlots);
+        assertEquals(expected, new ArrayList<>(freeSlots));
+        assertEquals(DAY.withHour(12), freeSlots.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> freeSlots.get(3));
+    }
+
+    @Test
+    void epochMinuteRounding_NarrowsPartialMinutesInBothDirections() {
+        long epochSecond = EmployeeCalendar.toEpochSecond(DAY.withHour(9).withSecond(30));
+
+        assertEquals(minute(DAY.withHour(9)), FreeSlots.floorEpochMinute(epochSecond));
+        assertEquals(minute(DAY.withHour(9).withMinute(1)), FreeSlots.ceilEpochMinute(epochSecond));
+        assertEquals(DAY.withHour(9), FreeSlots.fromEpochMinute(minute(DAY.withHour(9))));
+    }
+
+    private long minute(LocalDateTime time) {
+        return EmployeeCalendar.toEpochSecond(time) / 60;
+    }
+}
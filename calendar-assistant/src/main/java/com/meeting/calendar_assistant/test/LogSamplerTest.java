@@ -0,0 +1,24 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.service.LogSampler;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSamplerTest {
+
+    @Test
+    void letsOneEventThroughPerIntervalAndCountsTheRest() throws InterruptedException {
+        LogSampler sampler = new LogSampler(Duration.ofMillis(50));
+
+        assertEquals(0, sampler.sample());
+        assertEquals(-1, sampler.sample());
+        assertEquals(-1, sampler.sample());
+
+        Thread.sleep(60);
+        assertEquals(2, sampler.sample());
+        assertEquals(-1, sampler.sample());
+    }
+}
@@ -0,0 +1,164 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.model.ArchivedMeeting;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingHistoryEntry;
+import com.meeting.calendar_assistant.repository.ArchivedMeetingRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.CalendarInvalidationBus;
+import com.meeting.calendar_assistant.service.EmployeeDirectory;
+import com.meeting.calendar_assistant.service.MeetingArchiveService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class MeetingArchiveServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+    @InjectMocks
+    private MeetingArchiveService meetingArchiveService;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    @Mock
+    private ArchivedMeetingRepository archivedMeetingRepository;
+
+    @Mock
+    private EmployeeDirectory employeeDirectory;
+
+    @Mock
+    private CalendarIndex calendarIndex;
+
+    @Mock
+    private CalendarInvalidationBus invalidationBus;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        setField(meetingArchiveService, "maxAge", Duration.ofDays(30));
+        setField(meetingArchiveService, "batchSize", 2);
+    }
+
+    @Test
+    void archiveEndedBefore_MovesFullBatchesUntilNoneAreLeft() {
+        Meeting first = meeting(1L, 10L, 20L);
+        Meeting second = meeting(2L, 10L);
+        Meeting third = meeting(3L, 11L);
+        when(meetingRepository.findIdsEndedBefore(CUTOFF, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(meetingRepository.findWithAttendeesByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(meetingRepository.findWithAttendeesByIdIn(List.of(3L))).thenReturn(List.of(third));
+
+        assertEquals(3, meetingArchiveService.archiveEndedBefore(CUTOFF));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArchivedMeeting>> archived = ArgumentCaptor.forClass(List.class);
+        verify(archivedMeetingRepository, times(2)).saveAll(archived.capture());
+        ArchivedMeeting archivedFirst = archived.getAllValues().get(0).get(0);
+        assertEquals(1L, archivedFirst.getId());
+        assertEquals(10L, archivedFirst.getEmployeeId());
+        assertEquals(List.of(20L), archivedFirst.getAttendeeIds());
+        verify(meetingRepository).deleteAll(List.of(first, second));
+        verify(meetingRepository).deleteAll(List.of(third));
+        verify(calendarIndex).remove(first);
+        verify(calendarIndex).remove(third);
+        verify(invalidationBus, times(2)).publish(10L);
+        verify(invalidationBus).publish(20L);
+        verify(invalidationBus).publish(11L);
+    }
+
+    @Test
+    void archiveEndedBefore_NothingToArchive() {
+        when(meetingRepository.findIdsEndedBefore(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, meetingArchiveService.archiveEndedBefore(CUTOFF));
+
+        verify(archivedMeetingRepository, never()).saveAll(anyList());
+        verifyNoInteractions(calendarIndex, invalidationBus);
+    }
+
+    @Test
+    void findHistory_MergesBothTiersInStartOrder() {
+        Meeting live = meeting(3L, 10L, 20L);
+        live.setStartTime(CUTOFF.plusDays(1));
+        live.setEndTime(CUTOFF.plusDays(1).plusHours(1));
+        ArchivedMeeting organized = new ArchivedMeeting(meeting(1L, 10L), CUTOFF);
+        ArchivedMeeting attended = new ArchivedMeeting(meeting(2L, 11L, 10L), CUTOFF);
+        attended.setStartTime(CUTOFF.minusDays(1));
+        attended.setEndTime(CUTOFF.minusDays(1).plusHours(1));
+        LocalDateTime from = CUTOFF.minusYears(1);
+        LocalDateTime to = CUTOFF.plusYears(1);
+        when(employeeDirectory.exists(10L)).thenReturn(true);
+        when(meetingRepository.findOverlapping(10L, from, to)).thenReturn(List.of(live));
+        when(archivedMeetingRepository.findOrganizedOverlapping(10L, from, to)).thenReturn(List.of(organized));
+        when(archivedMeetingRepository.findAttendedOverlapping(10L, from, to)).thenReturn(List.of(attended));
+
+        List<MeetingHistoryEntry> history = meetingArchiveService.findHistory(10L, from, to);
+
+        assertEquals(List.of(1L, 2L, 3L), history.stream().map(MeetingHistoryEntry::getId).toList());
+        assertEquals(List.of(true, true, false), history.stream().map(MeetingHistoryEntry::isArchived).toList());
+        assertEquals(List.of(10L), history.get(1).getAttendeeIds());
+        assertEquals(List.of(20L), history.get(2).getAttendeeIds());
+    }
+
+    @Test
+    void findHistory_UnknownEmployee() {
+        when(employeeDirectory.exists(99L)).thenReturn(false);
+
+        assertThrows(EmployeeNotFoundException.class,
+                () -> meetingArchiveService.findHistory(99L, CUTOFF.minusDays(1), CUTOFF));
+    }
+
+    @Test
+    void findHistory_RejectsEmptyWindow() {
+        assertThrows(IllegalArgumentException.class, () -> meetingArchiveService.findHistory(10L, CUTOFF, CUTOFF));
+        verifyNoInteractions(meetingRepository, archivedMeetingRepository);
+    }
+
+    // A one-hour meeting ending a week before the cutoff
+    private static Meeting meeting(Long id, Long organizerId, Long... attendeeIds) {
+        Meeting meeting = new Meeting(CUTOFF.minusDays(7), CUTOFF.minusDays(7).plusHours(1), employee(organizerId), "Meeting " + id);
+        meeting.setId(id);
+        for (Long attendeeId : attendeeIds) {
+            meeting.getAttendees().add(employee(attendeeId));
+        }
+        return meeting;
+    }
+
+    private static Employee employee(Long id) {
+        Employee employee = new Employee();
+        employee.setId(id);
+        return employee;
+    }
+
+    private void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -2,9 +2,24 @@ package com.meeting.calendar_assistant.test;
 
 import com.meeting.calendar_assistant.controller.MeetingController;
 import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.BookingConflict;
+import com.meeting.calendar_assistant.model.ConflictCheckRequest;
+import com.meeting.calendar_assistant.model.FreeSlotSearchRequest;
+import com.meeting.calendar_assistant.model.GroupMeetingRequest;
 import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingHistoryEntry;
 import com.meeting.calendar_assistant.model.MeetingRequest;
+import com.meeting.calendar_assistant.model.ParticipantConflict;
+import com.meeting.calendar_assistant.model.TimeWindow;
+import com.meeting.calendar_assistant.model.WindowConflicts;
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import com.meeting.calendar_assistant.service.FreeSlots;
+import com.meeting.calendar_assistant.service.MeetingArchiveService;
+import com.meeting.calendar_assistant.service.MeetingExportService;
+import com.meeting.calendar_assistant.service.MeetingImportService;
 import com.meeting.calendar_assistant.service.MeetingService;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,6 +31,8 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -32,6 +49,15 @@ class MeetingControllerTest {
     @Mock
     private MeetingService meetingService;
 
+    @Mock
+    private MeetingImportService meetingImportService;
+
+    @Mock
+    private MeetingExportService meetingExportService;
+
+    @Mock
+    private MeetingArchiveService meetingArchiveService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -57,11 +83,11 @@ class MeetingControllerTest {
 
         when(meetingService.bookMeeting(employeeId, startTime, endTime, title)).thenReturn(mockMeeting);
 
-        ResponseEntity<Meeting> response = meetingController.bookMeeting(meetingRequest);
+        ResponseEntity<?> response = meetingController.bookMeeting(meetingRequest);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertNotNull(response.getBody());
-        assertEquals(title, response.getBody().getTitle());
+        assertEquals(title, ((Meeting) response.getBody()).getTitle());
 
         verify(meetingService, times(1)).bookMeeting(employeeId, startTime, endTime, title);
     }
@@ -78,7 +104,7 @@ class MeetingControllerTest {
         when(meetingService.bookMeeting(employeeId, startTime, endTime, title))
                 .thenThrow(new IllegalArgumentException("Invalid meeting times"));
 
-        ResponseEntity<Meeting> response = meetingController.bookMeeting(meetingRequest);
+        ResponseEntity<?> response = meetingController.bookMeeting(meetingRequest);
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
         assertNull(response.getBody());
@@ -106,17 +132,55 @@ class MeetingControllerTest {
         meetingRequest.setEndTime(endTime);
         meetingRequest.setTitle(title);
 
+        BookingConflict conflict = new BookingConflict("Meeting conflict", startTime, endTime,
+                List.of(new TimeWindow(startTime.minusHours(1), startTime)),
+                List.of(new TimeWindow(endTime, endTime.plusHours(1))));
         when(meetingService.bookMeeting(employeeId, startTime, endTime, title))
-                .thenThrow(new MeetingConflictException("Meeting conflict"));
+                .thenThrow(new MeetingConflictException("Meeting conflict", conflict));
 
-        ResponseEntity<Meeting> response = meetingController.bookMeeting(meetingRequest);
+        ResponseEntity<?> response = meetingController.bookMeeting(meetingRequest);
 
         assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
-        assertNull(response.getBody());
+        assertEquals(conflict, response.getBody());
 
         verify(meetingService, times(1)).bookMeeting(employeeId, startTime, endTime, title);
     }
 
+    @Test
+    void bookGroupMeeting_ConflictForAnyAttendee() {
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 15, 10, 0);
+        LocalDateTime endTime = startTime.plusHours(1);
+
+        GroupMeetingRequest request = new GroupMeetingRequest();
+        request.setEmployeeId(1L);
+        request.setAttendeeIds(List.of(2L, 3L));
+        request.setStartTime(startTime);
+        request.setEndTime(endTime);
+        request.setTitle("Planning");
+
+        when(meetingService.bookGroupMeeting(1L, List.of(2L, 3L), startTime, endTime, "Planning"))
+                .thenThrow(new MeetingConflictException("Meeting time conflicts with existing meetings of employees [3]"));
+
+        ResponseEntity<?> response = meetingController.bookGroupMeeting(request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void bookGroupMeeting_MissingAttendees() {
+        GroupMeetingRequest request = new GroupMeetingRequest();
+        request.setEmployeeId(1L);
+        request.setStartTime(LocalDateTime.of(2024, 10, 15, 10, 0));
+        request.setEndTime(LocalDateTime.of(2024, 10, 15, 11, 0));
+        request.setTitle("Planning");
+
+        ResponseEntity<?> response = meetingController.bookGroupMeeting(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(meetingService);
+    }
+
     @Test
     void findFreeSlots_Success() {
         Long employee1Id = 1L;
@@ -154,4 +218,187 @@ class MeetingControllerTest {
 
         verify(meetingService, times(1)).findConflictedParticipants(participantIds, startTime, endTime);
     }
+
+    @Test
+    void findConflictsBatch_Success() {
+        LocalDateTime startTime = LocalDateTime.of(2024, 10, 15, 10, 0);
+        List<TimeWindow> windows = List.of(new TimeWindow(startTime, startTime.plusHours(1)));
+
+        ConflictCheckRequest request = new ConflictCheckRequest();
+        request.setParticipantIds(List.of(1L, 2L));
+        request.setWindows(windows);
+
+        List<WindowConflicts> conflicts = List.of(new WindowConflicts(startTime, startTime.plusHours(1),
+                List.of(new ParticipantConflict(2L, List.of(7L)))));
+
+        when(meetingService.findConflicts(List.of(1L, 2L), windows)).thenReturn(conflicts);
+
+        ResponseEntity<List<WindowConflicts>> response = meetingController.findConflictsBatch(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(conflicts, response.getBody());
+    }
+
+    @Test
+    void findConflictsBatch_MissingWindowTimes() {
+        ConflictCheckRequest request = new ConflictCheckRequest();
+        request.setParticipantIds(List.of(1L));
+        request.setWindows(List.of(new TimeWindow(null, LocalDateTime.of(2024, 10, 15, 10, 0))));
+
+        ResponseEntity<List<WindowConflicts>> response = meetingController.findConflictsBatch(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(meetingService);
+    }
+
+    @Test
+    void findFreeWindows_DefaultsToTheRestOfTheDayAndABoundedLimit() {
+        LocalDateTime from = LocalDateTime.of(2024, 10, 16, 9, 0);
+        List<TimeWindow> freeWindows = List.of(new TimeWindow(from, from.plusHours(2)));
+        when(meetingService.findFreeWindows(1L, 2L, from, LocalDateTime.of(2024, 10, 17, 0, 0), 30, 15, 50))
+                .thenReturn(freeWindows);
+
+        ResponseEntity<List<TimeWindow>> response = meetingController.findFreeWindows(1L, 2L, 30, 15, from, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(freeWindows, response.getBody());
+    }
+
+    @Test
+    void findFreeWindows_InvalidLimit() {
+        LocalDateTime from = LocalDateTime.of(2024, 10, 16, 9, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(meetingService.findFreeWindows(1L, 2L, from, to, 30, 30, 0)).thenThrow(new IllegalArgumentException("bad limit"));
+
+        ResponseEntity<List<TimeWindow>> response = meetingController.findFreeWindows(1L, 2L, 30, 30, from, to, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void searchFreeSlots_Success() {
+        LocalDateTime from = LocalDateTime.of(2024, 10, 16, 9, 0);
+        LocalDateTime to = from.plusHours(8);
+
+        FreeSlotSearchRequest request = new FreeSlotSearchRequest();
+        request.setParticipantIds(List.of(1L, 2L, 3L));
+        request.setFrom(from);
+        request.setTo(to);
+        request.setDurationInMinutes(45);
+        request.setGranularityInMinutes(15);
+
+        long slotMinute = EmployeeCalendar.toEpochSecond(from.plusHours(2)) / 60;
+        FreeSlots freeSlots = new FreeSlots.Builder(15).addAligned(slotMinute, slotMinute + 45, 45).build();
+        when(meetingService.findFreeSlots(List.of(1L, 2L, 3L), from, to, 45, 15)).thenReturn(freeSlots);
+
+        ResponseEntity<List<LocalDateTime>> response = meetingController.searchFreeSlots(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(from.plusHours(2)), response.getBody());
+    }
+
+    @Test
+    void findNextSlots_DefaultsToNow() {
+        LocalDateTime slot = LocalDateTime.of(2024, 10, 16, 9, 0);
+        when(meetingService.findNextSlots(eq(List.of(1L, 2L)), eq(60), any(LocalDateTime.class), eq(3)))
+                .thenReturn(Stream.of(slot, slot.plusMinutes(30), slot.plusHours(1)));
+
+        ResponseEntity<List<LocalDateTime>> response = meetingController.findNextSlots(List.of(1L, 2L), 60, null, 3);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(slot, slot.plusMinutes(30), slot.plusHours(1)), response.getBody());
+    }
+
+    @Test
+    void findNextSlots_InvalidLimit() {
+        LocalDateTime from = LocalDateTime.of(2024, 10, 16, 9, 0);
+        when(meetingService.findNextSlots(List.of(1L), 60, from, 0)).thenThrow(new IllegalArgumentException("bad limit"));
+
+        ResponseEntity<List<LocalDateTime>> response = meetingController.findNextSlots(List.of(1L), 60, from, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void searchFreeSlots_MissingHorizon() {
+        FreeSlotSearchRequest request = new FreeSlotSearchRequest();
+        request.setParticipantIds(List.of(1L));
+        request.setDurationInMinutes(30);
+
+        ResponseEntity<List<LocalDateTime>> response = meetingController.searchFreeSlots(request);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(meetingService);
+    }
+
+    @Test
+    void importMeetings_StreamsResultsAsNdjson() throws Exception {
+        InputStream ndjson = new ByteArrayInputStream("{}".getBytes());
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream output = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(output);
+
+        meetingController.importMeetings(ndjson, response);
+
+        verify(response).setStatus(HttpStatus.OK.value());
+        verify(response).setContentType("application/x-ndjson");
+        verify(meetingImportService).importMeetings(ndjson, output);
+    }
+
+    @Test
+    void exportMeetings_StreamsCsvToResponse() throws Exception {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        LocalDateTime to = from.plusDays(7);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream output = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(output);
+
+        meetingController.exportMeetings(from, to, MeetingExportService.Format.CSV, response);
+
+        verify(response).setStatus(HttpStatus.OK.value());
+        verify(response).setContentType("text/csv");
+        verify(meetingExportService).exportMeetings(from, to, MeetingExportService.Format.CSV, output);
+    }
+
+    @Test
+    void exportMeetings_InvalidWindow() throws Exception {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream output = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(output);
+        when(meetingExportService.exportMeetings(from, from, MeetingExportService.Format.NDJSON, output))
+                .thenThrow(new IllegalArgumentException("Start time must be before end time"));
+
+        meetingController.exportMeetings(from, from, MeetingExportService.Format.NDJSON, response);
+
+        verify(response).reset();
+        verify(response).setStatus(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void findHistory_ReturnsBothTiers() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = from.plusYears(1);
+        List<MeetingHistoryEntry> history = List.of(
+                new MeetingHistoryEntry(1L, 1L, List.of(), from.plusDays(1), from.plusDays(1).plusHours(1), "Archived", true),
+                new MeetingHistoryEntry(2L, 1L, List.of(2L), to.minusDays(1), to.minusDays(1).plusHours(1), "Live", false));
+        when(meetingArchiveService.findHistory(1L, from, to)).thenReturn(history);
+
+        ResponseEntity<List<MeetingHistoryEntry>> response = meetingController.findHistory(1L, from, to);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(history, response.getBody());
+    }
+
+    @Test
+    void findHistory_InvalidWindow() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(meetingArchiveService.findHistory(1L, from, from)).thenThrow(new IllegalArgumentException("Start time must be before end time"));
+
+        ResponseEntity<List<MeetingHistoryEntry>> response = meetingController.findHistory(1L, from, from);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
 }
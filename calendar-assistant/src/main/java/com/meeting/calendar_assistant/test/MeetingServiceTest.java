@@ -1,24 +1,56 @@
 package com.meeting.calendar_assistant.test;
 
+import com.meeting.calendar_assistant.exception.ConcurrentBookingException;
 import com.meeting.calendar_assistant.exception.MeetingConflictException;
 import com.meeting.calendar_assistant.exception.EmployeeNotFoundException;
+import com.meeting.calendar_assistant.exception.MeetingNotFoundException;
+import com.meeting.calendar_assistant.model.BookingConflict;
 import com.meeting.calendar_assistant.model.Employee;
 import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.ParticipantConflict;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.model.RecurringMeetingRequest;
+import com.meeting.calendar_assistant.model.TimeWindow;
+import com.meeting.calendar_assistant.model.WindowConflicts;
 import com.meeting.calendar_assistant.repository.EmployeeRepository;
 import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
+import com.meeting.calendar_assistant.model.BusyInterval;
+import com.meeting.calendar_assistant.service.BookingEventLog;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.CalendarInvalidationBus;
+import com.meeting.calendar_assistant.service.EmployeeDirectory;
+import com.meeting.calendar_assistant.service.EmployeeLocks;
+import com.meeting.calendar_assistant.service.PessimisticBookingExecutor;
+import com.meeting.calendar_assistant.service.FreeSlotFinder;
 import com.meeting.calendar_assistant.service.MeetingService;
+import com.meeting.calendar_assistant.service.ParticipantFanOut;
+import com.meeting.calendar_assistant.service.SchedulingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.util.ReflectionUtils;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class MeetingServiceTest {
@@ -29,6 +61,35 @@ class MeetingServiceTest {
     @Mock
     private MeetingRepository meetingRepository;
 
+    @Mock
+    private RecurringMeetingRepository recurringMeetingRepository;
+
+    // The spy is a copy, but the cache loader stays bound to the original instance
+    private final CalendarIndex spiedCalendarIndex = new CalendarIndex();
+
+    @Spy
+    private CalendarIndex calendarIndex = spiedCalendarIndex;
+
+    @Spy
+    private EmployeeDirectory employeeDirectory = new EmployeeDirectory();
+
+    @Spy
+    private FreeSlotFinder freeSlotFinder = new FreeSlotFinder();
+
+    @Mock
+    private CalendarInvalidationBus invalidationBus;
+
+    @Spy
+    private ParticipantFanOut participantFanOut = new ParticipantFanOut(Runnable::run, 4);
+
+    @Spy
+    private PessimisticBookingExecutor bookingExecutor = new PessimisticBookingExecutor(new EmployeeLocks(16));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private SchedulingMetrics schedulingMetrics = new SchedulingMetrics(meterRegistry);
+
     @InjectMocks
     private MeetingService meetingService;
 
@@ -38,6 +99,10 @@ class MeetingServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        // @InjectMocks only wires the service, so the caches get their repositories by hand
+        setField(spiedCalendarIndex, "meetingRepository", meetingRepository);
+        setField(spiedCalendarIndex, "recurringMeetingRepository", recurringMeetingRepository);
+        setField(employeeDirectory, "employeeRepository", employeeRepository);
         employee = new Employee();
         employee.setId(EMPLOYEE_ID);
     }
@@ -48,9 +113,14 @@ class MeetingServiceTest {
         LocalDateTime endTime = startTime.plusHours(1);
         String title = "Team Sync";
 
-        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
-        when(meetingRepository.findByEmployee_Id(EMPLOYEE_ID)).thenReturn(Collections.emptyList());
-        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        givenEmployeeExists();
+        // Load the calendar first so the booking has to update the cached copy in place
+        calendarIndex.calendarOf(EMPLOYEE_ID);
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> {
+            Meeting saved = invocation.getArgument(0);
+            saved.setId(100L);
+            return saved;
+        });
 
         Meeting meeting = meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, title);
 
@@ -61,6 +131,8 @@ class MeetingServiceTest {
         assertEquals(title, meeting.getTitle());
 
         verify(meetingRepository).save(meeting);
+        assertEquals(List.of(100L), calendarIndex.findOverlapping(EMPLOYEE_ID, startTime, endTime));
+        verify(invalidationBus).publish(EMPLOYEE_ID);
     }
 
     @Test
@@ -71,14 +143,102 @@ class MeetingServiceTest {
 
         Meeting existingMeeting = new Meeting(startTime, endTime, employee, "Existing Meeting");
 
-        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
-        when(meetingRepository.findByEmployee_Id(EMPLOYEE_ID)).thenReturn(Collections.singletonList(existingMeeting));
+        givenEmployeeExists();
+        when(meetingRepository.findOverlapping(EMPLOYEE_ID, startTime, endTime)).thenReturn(List.of(existingMeeting));
+        // Alternatives would load the calendar, series included
+        setField(meetingService, "conflictAlternatives", 0);
 
         MeetingConflictException thrown = assertThrows(MeetingConflictException.class, () -> {
             meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, title);
         });
 
         assertEquals("Meeting time conflicts with existing meetings", thrown.getMessage());
+        verifyNoInteractions(invalidationBus);
+        assertEquals(1, meterRegistry.get("calendar.conflicts").tag("operation", "book").counter().count());
+        assertEquals(1, meterRegistry.get("calendar.operation").tags("operation", "book", "outcome", "conflict").timer().count());
+        assertEquals(1, meterRegistry.get("calendar.meetings.scanned").tag("operation", "book").summary().totalAmount());
+        verify(recurringMeetingRepository, never()).findWithSkippedOccurrencesByEmployeeId(any());
+    }
+
+    @Test
+    void testBookMeeting_ConflictsWithRecurringOccurrence() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        RecurringMeeting standup = new RecurringMeeting(day.withHour(9), day.withHour(9).withMinute(15),
+                RecurringMeeting.Frequency.DAILY, 1, null, employee, "Standup");
+        standup.setId(40L);
+
+        givenEmployeeExists();
+        when(recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(EMPLOYEE_ID)).thenReturn(List.of(standup));
+
+        assertThrows(MeetingConflictException.class, () ->
+                meetingService.bookMeeting(EMPLOYEE_ID, day.plusDays(100).withHour(9), day.plusDays(100).withHour(10), "Clash"));
+        verify(meetingRepository, never()).save(any());
+    }
+
+    @Test
+    void testBookRecurringMeeting_SavesOneRowAndConflictsWithLaterMeetings() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        RecurringMeetingRequest request = new RecurringMeetingRequest();
+        request.setEmployeeId(EMPLOYEE_ID);
+        request.setStartTime(day.withHour(14));
+        request.setEndTime(day.withHour(15));
+        request.setTitle("Weekly sync");
+        request.setFrequency(RecurringMeeting.Frequency.WEEKLY);
+
+        givenEmployeeExists();
+        when(recurringMeetingRepository.save(any(RecurringMeeting.class))).thenAnswer(invocation -> {
+            RecurringMeeting series = invocation.getArgument(0);
+            series.setId(41L);
+            return series;
+        });
+        calendarIndex.calendarOf(EMPLOYEE_ID);
+
+        RecurringMeeting series = meetingService.bookRecurringMeeting(request);
+
+        assertEquals(41L, series.getId());
+        assertEquals(List.of(41L), calendarIndex.findOverlapping(EMPLOYEE_ID, day.plusWeeks(52).withHour(14), day.plusWeeks(52).withHour(15)));
+        verify(invalidationBus).publish(EMPLOYEE_ID);
+
+        // A single meeting overlapping the fourth occurrence
+        givenBusy(EMPLOYEE_ID, day.plusWeeks(3).withHour(14).withMinute(30), day.plusWeeks(3).withHour(16));
+        List<BusyInterval> laterMeetings = meetingRepository.findBusyIntervalsByEmployee_Id(EMPLOYEE_ID);
+        when(meetingRepository.findBusyIntervalsByEmployee_IdAndEndTimeAfter(EMPLOYEE_ID, day.withHour(14)))
+                .thenReturn(laterMeetings);
+        assertThrows(MeetingConflictException.class, () -> meetingService.bookRecurringMeeting(request));
+    }
+
+    @Test
+    void testBookRecurringMeeting_RejectsOccurrencesLongerThanThePeriod() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        RecurringMeetingRequest request = new RecurringMeetingRequest();
+        request.setEmployeeId(EMPLOYEE_ID);
+        request.setStartTime(start);
+        request.setEndTime(start.plusHours(25));
+        request.setTitle("Marathon");
+        request.setFrequency(RecurringMeeting.Frequency.DAILY);
+        givenEmployeeExists();
+
+        assertThrows(IllegalArgumentException.class, () -> meetingService.bookRecurringMeeting(request));
+        verify(recurringMeetingRepository, never()).save(any());
+    }
+
+    @Test
+    void testSkipOccurrence_FreesThatDayOnly() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        RecurringMeeting standup = new RecurringMeeting(day.withHour(9), day.withHour(10),
+                RecurringMeeting.Frequency.DAILY, 1, null, employee, "Standup");
+        standup.setId(42L);
+        when(recurringMeetingRepository.findWithSkippedOccurrencesById(42L)).thenReturn(Optional.of(standup));
+        when(recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(EMPLOYEE_ID)).thenReturn(List.of(standup));
+        when(recurringMeetingRepository.save(standup)).thenReturn(standup);
+
+        assertThrows(IllegalArgumentException.class, () -> meetingService.skipOccurrence(42L, day.plusDays(2).withHour(9).withMinute(30)));
+
+        meetingService.skipOccurrence(42L, day.plusDays(2).withHour(9));
+
+        List<LocalDateTime> freeSlots = meetingService.findFreeSlots(List.of(EMPLOYEE_ID), day.withHour(9),
+                day.plusDays(3).withHour(10), 60, 60);
+        assertEquals(List.of(day.plusDays(2).withHour(9)), freeSlots.stream().filter(slot -> slot.getHour() == 9).toList());
     }
 
     @Test
@@ -87,13 +247,14 @@ class MeetingServiceTest {
         LocalDateTime endTime = startTime.plusHours(1);
         String title = "Meeting Title";
 
-        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.empty());
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(false);
 
         EmployeeNotFoundException thrown = assertThrows(EmployeeNotFoundException.class, () -> {
             meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, title);
         });
 
         assertEquals("Employee not found", thrown.getMessage());
+        assertEquals(1, meterRegistry.get("calendar.not-found").tag("operation", "book").counter().count());
     }
 
     @Test
@@ -117,8 +278,8 @@ class MeetingServiceTest {
 
         Meeting existingMeeting = new Meeting(startTime.minusMinutes(30), startTime.plusMinutes(30), employee, "Existing Meeting");
 
-        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
-        when(meetingRepository.findByEmployee_Id(EMPLOYEE_ID)).thenReturn(Collections.singletonList(existingMeeting));
+        givenEmployeeExists();
+        when(meetingRepository.findOverlapping(EMPLOYEE_ID, startTime, endTime)).thenReturn(List.of(existingMeeting));
 
         MeetingConflictException thrown = assertThrows(MeetingConflictException.class, () -> {
             meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, title);
@@ -126,4 +287,423 @@ class MeetingServiceTest {
 
         assertEquals("Meeting time conflicts with existing meetings", thrown.getMessage());
     }
+
+    @Test
+    void testFindFreeSlots_QueriesTodayOnlyAndSkipsBusyTime() {
+        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, today.minusHours(1), today.withHour(23));
+
+        List<LocalDateTime> freeSlots = meetingService.findFreeSlots(EMPLOYEE_ID, 2L, 30);
+
+        assertFalse(freeSlots.isEmpty());
+        assertTrue(freeSlots.stream().noneMatch(slot -> slot.isBefore(today.withHour(23))));
+        verify(meetingRepository, never()).findOverlapping(any(), any(), any());
+    }
+
+    @Test
+    void testFindFreeSlots_StepsFromGapStartAndRequiresSlotToEndBeforeGap() {
+        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, today, today.withHour(10).withMinute(10));
+        givenBusy(2L, today.withHour(11).withMinute(10), today.withHour(23));
+
+        List<LocalDateTime> freeSlots = meetingService.findFreeSlots(EMPLOYEE_ID, 2L, 30);
+
+        assertEquals(List.of(today.withHour(10).withMinute(10), today.withHour(23)), freeSlots);
+    }
+
+    @Test
+    void testFindFreeWindows_ReturnsMaximalWindowsIncludingExactFits() {
+        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, today, today.withHour(10), today.withHour(13).withMinute(30), today.withHour(23));
+        givenBusy(2L, today.withHour(11), today.withHour(12));
+
+        assertEquals(List.of(new TimeWindow(today.withHour(10), today.withHour(11)),
+                        new TimeWindow(today.withHour(12), today.withHour(13).withMinute(30))),
+                meetingService.findFreeWindows(EMPLOYEE_ID, 2L, today, today.plusDays(1), 60, 30, 2));
+        assertEquals(List.of(new TimeWindow(today.withHour(12).withMinute(30), today.withHour(13).withMinute(30)),
+                        new TimeWindow(today.withHour(23), today.plusDays(1))),
+                meetingService.findFreeWindows(EMPLOYEE_ID, 2L, today.withHour(12).withMinute(30), today.plusDays(1), 60, 30, 10));
+    }
+
+    @Test
+    void testFindFreeWindows_SpansTheRequestedDays() {
+        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, today.withHour(8), today.plusDays(2).withHour(9));
+        givenBusy(2L, today.plusDays(2).withHour(10), today.plusDays(2).withHour(11));
+
+        assertEquals(List.of(new TimeWindow(today.withHour(7), today.withHour(8)),
+                        new TimeWindow(today.plusDays(2).withHour(9), today.plusDays(2).withHour(10)),
+                        new TimeWindow(today.plusDays(2).withHour(11), today.plusDays(2).withHour(12))),
+                meetingService.findFreeWindows(EMPLOYEE_ID, 2L, today.withHour(7), today.plusDays(2).withHour(12), 60, 30, 10));
+    }
+
+    @Test
+    void testFindFreeWindows_InvalidStep() {
+        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        assertThrows(IllegalArgumentException.class,
+                () -> meetingService.findFreeWindows(EMPLOYEE_ID, 2L, today, today.plusDays(1), 30, 0, 10));
+    }
+
+    @Test
+    void testFindFreeWindows_InvalidRange() {
+        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
+        assertThrows(IllegalArgumentException.class,
+                () -> meetingService.findFreeWindows(EMPLOYEE_ID, 2L, today.plusDays(1), today, 30, 30, 10));
+    }
+
+    @Test
+    void testCancelMeeting_RemovesFromIndex() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+
+        Meeting existingMeeting = new Meeting(startTime, endTime, employee, "Existing Meeting");
+        existingMeeting.setId(13L);
+        givenCached(existingMeeting);
+
+        when(meetingRepository.findWithAttendeesById(13L)).thenReturn(Optional.of(existingMeeting));
+
+        meetingService.cancelMeeting(13L);
+
+        verify(meetingRepository).delete(existingMeeting);
+        assertFalse(calendarIndex.hasOverlap(EMPLOYEE_ID, startTime, endTime));
+        verify(invalidationBus).publish(EMPLOYEE_ID);
+    }
+
+    @Test
+    void testBookMeeting_FailedEventLogWriteStillReportsTheCommittedBooking() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+        BookingEventLog bookingEventLog = mock(BookingEventLog.class);
+        setField(meetingService, "bookingEventLog", bookingEventLog);
+        when(bookingEventLog.booked(any())).thenReturn(CompletableFuture.failedFuture(new IOException("disk full")));
+        when(bookingEventLog.cancelled(any())).thenReturn(CompletableFuture.failedFuture(new IOException("disk full")));
+
+        givenEmployeeExists();
+        calendarIndex.calendarOf(EMPLOYEE_ID);
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> {
+            Meeting saved = invocation.getArgument(0);
+            saved.setId(100L);
+            return saved;
+        });
+
+        Meeting meeting = meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, "Team Sync");
+
+        assertEquals(100L, meeting.getId());
+        assertEquals(List.of(100L), calendarIndex.findOverlapping(EMPLOYEE_ID, startTime, endTime));
+        verify(invalidationBus).publish(EMPLOYEE_ID);
+
+        when(meetingRepository.findWithAttendeesById(100L)).thenReturn(Optional.of(meeting));
+        meetingService.cancelMeeting(100L);
+
+        assertFalse(calendarIndex.hasOverlap(EMPLOYEE_ID, startTime, endTime));
+        verify(invalidationBus, times(2)).publish(EMPLOYEE_ID);
+    }
+
+    @Test
+    void testBookMeeting_ConflictOffersNearestAlternatives() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime startTime = day.withHour(10);
+        LocalDateTime endTime = startTime.plusHours(1);
+        Meeting existingMeeting = new Meeting(day.withHour(9), day.withHour(11).withMinute(30), employee, "Existing Meeting");
+
+        givenEmployeeExists();
+        givenBusy(EMPLOYEE_ID, day.withHour(9), day.withHour(11).withMinute(30), day.withHour(13), day.withHour(14));
+        when(meetingRepository.findOverlapping(EMPLOYEE_ID, startTime, endTime)).thenReturn(List.of(existingMeeting));
+
+        MeetingConflictException thrown = assertThrows(MeetingConflictException.class,
+                () -> meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, "New Meeting"));
+
+        BookingConflict conflict = thrown.getConflict();
+        assertEquals(startTime, conflict.getStartTime());
+        assertEquals(List.of(new TimeWindow(day.withHour(8), day.withHour(9)),
+                        new TimeWindow(day.withHour(7).withMinute(30), day.withHour(8).withMinute(30)),
+                        new TimeWindow(day.withHour(7), day.withHour(8))),
+                conflict.getEarlierSlots());
+        // 13:00-14:00 is busy, so the 12:30 and 13:00 starts are skipped
+        assertEquals(List.of(new TimeWindow(day.withHour(11).withMinute(30), day.withHour(12).withMinute(30)),
+                        new TimeWindow(day.withHour(12), day.withHour(13)),
+                        new TimeWindow(day.withHour(14), day.withHour(15))),
+                conflict.getLaterSlots());
+        verify(meetingRepository, never()).save(any());
+    }
+
+    @Test
+    void testBookMeeting_ContentionIsRejectedWithoutAlternatives() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+        givenEmployeeExists();
+        ConcurrentBookingException contention = new ConcurrentBookingException("Calendar was modified concurrently, please retry");
+        doThrow(contention).when(bookingExecutor).execute(eq(EMPLOYEE_ID), any());
+
+        MeetingConflictException thrown = assertThrows(MeetingConflictException.class,
+                () -> meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, "New Meeting"));
+
+        assertSame(contention, thrown);
+        assertNull(thrown.getConflict());
+        verify(calendarIndex, never()).calendarOf(any());
+        assertNull(meterRegistry.find("calendar.conflicts").counter());
+        assertEquals(1, meterRegistry.get("calendar.operation").tag("outcome", "contention").timer().count());
+    }
+
+    @Test
+    void testBookGroupMeeting_SavesOneMeetingForEveryParticipant() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+        Employee attendee = givenAttendeeExists(2L);
+        calendarIndex.calendarOf(EMPLOYEE_ID);
+        calendarIndex.calendarOf(2L);
+        when(meetingRepository.save(any(Meeting.class))).thenAnswer(invocation -> {
+            Meeting saved = invocation.getArgument(0);
+            saved.setId(100L);
+            return saved;
+        });
+
+        Meeting meeting = meetingService.bookGroupMeeting(EMPLOYEE_ID, List.of(2L, EMPLOYEE_ID), startTime, endTime, "Planning");
+
+        assertEquals(employee, meeting.getEmployee());
+        assertEquals(List.of(attendee), meeting.getAttendees());
+        verify(meetingRepository, times(1)).save(any(Meeting.class));
+        verify(bookingExecutor).executeForAll(eq(new LinkedHashSet<>(List.of(EMPLOYEE_ID, 2L))), any());
+        assertEquals(List.of(100L), calendarIndex.findOverlapping(EMPLOYEE_ID, startTime, endTime));
+        assertEquals(List.of(100L), calendarIndex.findOverlapping(2L, startTime, endTime));
+        verify(invalidationBus).publish(EMPLOYEE_ID);
+        verify(invalidationBus).publish(2L);
+    }
+
+    @Test
+    void testBookGroupMeeting_OneBusyAttendeeRejectsTheWholeMeeting() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+        givenAttendeeExists(2L);
+        givenAttendeeExists(3L);
+        when(meetingRepository.findBusyAttendees(any(), eq(startTime), eq(endTime))).thenReturn(List.of(3L));
+
+        MeetingConflictException thrown = assertThrows(MeetingConflictException.class,
+                () -> meetingService.bookGroupMeeting(EMPLOYEE_ID, List.of(2L, 3L), startTime, endTime, "Planning"));
+
+        assertEquals("Meeting time conflicts with existing meetings of employees [3]", thrown.getMessage());
+        verify(meetingRepository, never()).save(any());
+        verify(invalidationBus, never()).publish(any());
+        assertEquals(1.0, meterRegistry.get("calendar.conflicts").tag("operation", "book-group").counter().count());
+    }
+
+    @Test
+    void testBookMeeting_ConflictsWithAMeetingTheEmployeeAttends() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+        givenEmployeeExists();
+        when(meetingRepository.findBusyAttendees(List.of(EMPLOYEE_ID), startTime, endTime)).thenReturn(List.of(EMPLOYEE_ID));
+
+        assertThrows(MeetingConflictException.class,
+                () -> meetingService.bookMeeting(EMPLOYEE_ID, startTime, endTime, "Clash"));
+        verify(meetingRepository, never()).save(any());
+    }
+
+    @Test
+    void testCancelMeeting_FreesEveryAttendee() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime endTime = startTime.plusHours(1);
+        Employee attendee = new Employee();
+        attendee.setId(2L);
+        Meeting existingMeeting = new Meeting(startTime, endTime, employee, "Planning");
+        existingMeeting.setId(14L);
+        existingMeeting.getAttendees().add(attendee);
+        givenCached(existingMeeting);
+        when(meetingRepository.findWithAttendeesById(14L)).thenReturn(Optional.of(existingMeeting));
+
+        meetingService.cancelMeeting(14L);
+
+        verify(meetingRepository).delete(existingMeeting);
+        assertFalse(calendarIndex.hasOverlap(2L, startTime, endTime));
+        verify(invalidationBus).publish(EMPLOYEE_ID);
+        verify(invalidationBus).publish(2L);
+    }
+
+    @Test
+    void testCancelMeeting_NotFound() {
+        when(meetingRepository.findWithAttendeesById(99L)).thenReturn(Optional.empty());
+
+        MeetingNotFoundException thrown = assertThrows(MeetingNotFoundException.class, () -> {
+            meetingService.cancelMeeting(99L);
+        });
+
+        assertEquals("Meeting not found", thrown.getMessage());
+    }
+
+    @Test
+    void testFindConflicts_ReportsOffendingMeetingsPerWindow() {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        Employee other = new Employee();
+        other.setId(2L);
+
+        Meeting existingMeeting = new Meeting(startTime, startTime.plusHours(1), employee, "Existing Meeting");
+        existingMeeting.setId(20L);
+        Meeting otherMeeting = new Meeting(startTime.plusHours(2), startTime.plusHours(3), other, "Other Meeting");
+        otherMeeting.setId(21L);
+        givenCached(existingMeeting, otherMeeting);
+
+        List<WindowConflicts> results = meetingService.findConflicts(
+                List.of(EMPLOYEE_ID, 2L, 3L, EMPLOYEE_ID),
+                List.of(new TimeWindow(startTime, startTime.plusMinutes(30)),
+                        new TimeWindow(startTime.plusHours(1), startTime.plusHours(2)),
+                        new TimeWindow(startTime.minusHours(1), startTime.plusHours(4))));
+
+        assertEquals(3, results.size());
+        assertEquals(List.of(new ParticipantConflict(EMPLOYEE_ID, List.of(20L))), results.get(0).getConflicts());
+        assertTrue(results.get(1).getConflicts().isEmpty());
+        assertEquals(List.of(new ParticipantConflict(EMPLOYEE_ID, List.of(20L)), new ParticipantConflict(2L, List.of(21L))),
+                results.get(2).getConflicts());
+        // Only the calendar that was not cached yet is read from the database
+        verify(meetingRepository).findBusyIntervalsByEmployee_Id(3L);
+        verify(meetingRepository).findAttendedBusyIntervals(3L);
+        verifyNoMoreInteractions(meetingRepository);
+    }
+
+    @Test
+    void testFindConflicts_InvalidWindow() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(2);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                meetingService.findConflicts(List.of(EMPLOYEE_ID), List.of(new TimeWindow(startTime, startTime.minusHours(1)))));
+    }
+
+    @Test
+    void testFindFreeSlots_ForParticipantGroup() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        Employee other = new Employee();
+        other.setId(2L);
+
+        Meeting morning = new Meeting(day.withHour(9), day.withHour(11), employee, "Morning");
+        morning.setId(30L);
+        Meeting lunch = new Meeting(day.withHour(11), day.withHour(12), other, "Lunch");
+        lunch.setId(31L);
+        givenCached(morning, lunch);
+
+        List<LocalDateTime> freeSlots = meetingService.findFreeSlots(List.of(EMPLOYEE_ID, 2L),
+                day.withHour(9), day.withHour(14), 60, 60);
+
+        assertEquals(List.of(day.withHour(12), day.withHour(13)), freeSlots);
+        verifyNoInteractions(meetingRepository);
+        assertEquals(2, meterRegistry.get("calendar.free-slots.returned").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("calendar.request.participants").tag("operation", "free-slots").summary().totalAmount());
+    }
+
+    @Test
+    void testFindConflictedParticipants_RecordsParticipantsScannedMeetingsAndConflicts() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, day.withHour(9), day.withHour(10), day.withHour(14), day.withHour(15));
+        givenBusy(2L);
+
+        List<Long> conflicted = meetingService.findConflictedParticipants(List.of(EMPLOYEE_ID, 2L),
+                day.withHour(9).withMinute(30), day.withHour(11));
+
+        assertEquals(List.of(EMPLOYEE_ID), conflicted);
+        assertEquals(2, meterRegistry.get("calendar.request.participants").tag("operation", "conflicts").summary().totalAmount());
+        // The 9:00 meeting overlaps; the 14:00 one is not scanned
+        assertEquals(1, meterRegistry.get("calendar.meetings.scanned").tag("operation", "conflicts").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("calendar.conflicts").tag("operation", "conflicts").counter().count());
+        assertEquals(1, meterRegistry.get("calendar.operation").tags("operation", "conflicts", "outcome", "success").timer().count());
+    }
+
+    @Test
+    void testFindFreeSlots_InvalidDuration() {
+        LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+        assertThrows(IllegalArgumentException.class, () ->
+                meetingService.findFreeSlots(List.of(EMPLOYEE_ID), from, from.plusHours(8), 0, 15));
+    }
+
+    @Test
+    void testFindNextSlots_StopsAtLimitWithoutSearchingLaterDays() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, day.withHour(9), day.plusDays(1).withHour(10));
+        givenBusy(2L);
+
+        List<LocalDateTime> nextSlots = meetingService.findNextSlots(List.of(EMPLOYEE_ID, 2L), 60, day.withHour(9), 3)
+                .toList();
+
+        assertEquals(List.of(day.plusDays(1).withHour(10), day.plusDays(1).withHour(10).withMinute(30),
+                day.plusDays(1).withHour(11)), nextSlots);
+        // The first day is fully booked, the second one already has enough slots
+        verify(freeSlotFinder, times(2)).findFreeSlots(anyMap(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testFindNextSlots_GivesUpAtMaxHorizon() {
+        LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        givenBusy(EMPLOYEE_ID, day, day.plusDays(30));
+        setField(meetingService, "nextSlotsMaxHorizonDays", 5);
+
+        List<LocalDateTime> nextSlots = meetingService.findNextSlots(List.of(EMPLOYEE_ID), 30, day, 3).toList();
+
+        assertTrue(nextSlots.isEmpty());
+        verify(freeSlotFinder, times(5)).findFreeSlots(anyMap(), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void testFindNextSlots_InvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () ->
+                meetingService.findNextSlots(List.of(EMPLOYEE_ID), 30, LocalDateTime.now(), 0));
+    }
+
+    private void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+
+    private void givenEmployeeExists() {
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(true);
+        when(employeeRepository.getReferenceById(EMPLOYEE_ID)).thenReturn(employee);
+    }
+
+    private Employee givenAttendeeExists(Long attendeeId) {
+        givenEmployeeExists();
+        Employee attendee = new Employee();
+        attendee.setId(attendeeId);
+        when(employeeRepository.existsById(attendeeId)).thenReturn(true);
+        when(employeeRepository.getReferenceById(attendeeId)).thenReturn(attendee);
+        return attendee;
+    }
+
+    // Stub the calendar load of an employee with busy intervals given as start/end pairs
+    private void givenBusy(Long employeeId, LocalDateTime... startsAndEnds) {
+        List<BusyInterval> intervals = new ArrayList<>();
+        for (int i = 0; i < startsAndEnds.length; i += 2) {
+            intervals.add(busyInterval(employeeId * 100 + i, startsAndEnds[i], startsAndEnds[i + 1]));
+        }
+        when(meetingRepository.findBusyIntervalsByEmployee_Id(employeeId)).thenReturn(intervals);
+    }
+
+    // Load the calendars of every participant of the meetings into the index, then forget the loads
+    private void givenCached(Meeting... meetings) {
+        Map<Long, List<BusyInterval>> intervalsByEmployee = new LinkedHashMap<>();
+        for (Meeting meeting : meetings) {
+            for (Long participantId : meeting.participantIds()) {
+                intervalsByEmployee.computeIfAbsent(participantId, id -> new ArrayList<>())
+                        .add(busyInterval(meeting.getId(), meeting.getStartTime(), meeting.getEndTime()));
+            }
+        }
+        intervalsByEmployee.forEach((employeeId, intervals) -> {
+            when(meetingRepository.findBusyIntervalsByEmployee_Id(employeeId)).thenReturn(intervals);
+            calendarIndex.calendarOf(employeeId);
+        });
+        clearInvocations(meetingRepository, recurringMeetingRepository, calendarIndex);
+    }
+
+    private BusyInterval busyInterval(Long id, LocalDateTime start, LocalDateTime end) {
+        return new BusyInterval() {
+            public Long getId() {
+                return id;
+            }
+
+            public LocalDateTime getStartTime() {
+                return start;
+            }
+
+            public LocalDateTime getEndTime() {
+                return end;
+            }
+        };
+    }
 }
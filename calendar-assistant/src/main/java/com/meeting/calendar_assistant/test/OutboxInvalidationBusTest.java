@@ -0,0 +1,166 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.model.CalendarInvalidation;
+import com.meeting.calendar_assistant.repository.CalendarInvalidationRepository;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.OutboxInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class OutboxInvalidationBusTest {
+
+    @Mock
+    private CalendarInvalidationRepository invalidationRepository;
+
+    @Mock
+    private CalendarIndex calendarIndex;
+
+    private OutboxInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(invalidationRepository.findLatestVersion()).thenReturn(41L);
+        bus = open(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void publish_AppendsRowAndReturnsItsVersion() {
+        when(invalidationRepository.save(any(CalendarInvalidation.class))).thenAnswer(invocation -> {
+            CalendarInvalidation saved = invocation.getArgument(0);
+            saved.setVersion(42L);
+            return saved;
+        });
+
+        assertEquals(42L, bus.publish(7L));
+
+        ArgumentCaptor<CalendarInvalidation> row = ArgumentCaptor.forClass(CalendarInvalidation.class);
+        verify(invalidationRepository).save(row.capture());
+        assertEquals(7L, row.getValue().getEmployeeId());
+        assertNotNull(row.getValue().getOrigin());
+        verifyNoInteractions(calendarIndex);
+    }
+
+    @Test
+    void poll_EvictsChangesFromOtherNodesOnly() {
+        String ownOrigin = publishedOrigin();
+        when(invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(41L)).thenReturn(List.of(
+                invalidation(42L, 1L, "other-node"),
+                invalidation(43L, 2L, ownOrigin),
+                invalidation(44L, 3L, "other-node")));
+
+        bus.poll();
+
+        verify(calendarIndex).evict(1L);
+        verify(calendarIndex).evict(3L);
+        verifyNoMoreInteractions(calendarIndex);
+
+        // The next poll resumes after the last version seen
+        bus.poll();
+        verify(invalidationRepository).findTop500ByVersionGreaterThanOrderByVersionAsc(44L);
+    }
+
+    @Test
+    void poll_DrainsFullBatchesBeforeReturning() {
+        List<CalendarInvalidation> fullBatch = new ArrayList<>();
+        for (long version = 42; version < 542; version++) {
+            fullBatch.add(invalidation(version, version, "other-node"));
+        }
+        when(invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(41L)).thenReturn(fullBatch);
+        when(invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(541L))
+                .thenReturn(List.of(invalidation(542L, 9L, "other-node")));
+
+        bus.poll();
+
+        verify(calendarIndex, times(501)).evict(anyLong());
+        verify(calendarIndex).evict(9L);
+    }
+
+    @Test
+    void poll_RechecksVersionsThatCommitAfterALaterOne() {
+        when(invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(41L))
+                .thenReturn(List.of(invalidation(43L, 3L, "other-node")));
+        bus.poll();
+        verify(calendarIndex).evict(3L);
+
+        // Version 42 was inserted first but committed after 43 had been polled
+        when(invalidationRepository.findByVersionIn(List.of(42L))).thenReturn(List.of(invalidation(42L, 2L, "other-node")));
+        bus.poll();
+        verify(calendarIndex).evict(2L);
+
+        // Found, so it is not looked up again
+        bus.poll();
+        verify(invalidationRepository, times(1)).findByVersionIn(any());
+    }
+
+    @Test
+    void poll_StopsLookingForVersionsThatNeverCommit() {
+        bus = open(Duration.ofSeconds(-1));
+        when(invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(41L))
+                .thenReturn(List.of(invalidation(44L, 4L, "other-node")));
+        bus.poll();
+
+        bus.poll();
+        bus.poll();
+
+        verify(invalidationRepository, times(1)).findByVersionIn(List.of(42L, 43L));
+        verify(calendarIndex).evict(4L);
+        verifyNoMoreInteractions(calendarIndex);
+    }
+
+    @Test
+    void start_PollsOnItsOwnThreadThroughFailuresUntilStopped() throws InterruptedException {
+        when(invalidationRepository.findTop500ByVersionGreaterThanOrderByVersionAsc(41L))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(List.of(invalidation(42L, 5L, "other-node")));
+        OutboxInvalidationBus polling = new OutboxInvalidationBus(invalidationRepository, calendarIndex,
+                Duration.ofHours(1), Duration.ofMinutes(1), 10);
+        polling.start();
+
+        try {
+            verify(calendarIndex, timeout(5_000)).evict(5L);
+        } finally {
+            polling.stop();
+        }
+        clearInvocations(invalidationRepository);
+        Thread.sleep(50);
+        verifyNoInteractions(invalidationRepository);
+    }
+
+    private OutboxInvalidationBus open(Duration gapTimeout) {
+        OutboxInvalidationBus opened = new OutboxInvalidationBus(invalidationRepository, calendarIndex, Duration.ofHours(1), gapTimeout);
+        opened.start();
+        return opened;
+    }
+
+    private String publishedOrigin() {
+        when(invalidationRepository.save(any(CalendarInvalidation.class))).thenAnswer(invocation -> {
+            CalendarInvalidation saved = invocation.getArgument(0);
+            saved.setVersion(1L);
+            return saved;
+        });
+        bus.publish(2L);
+        ArgumentCaptor<CalendarInvalidation> row = ArgumentCaptor.forClass(CalendarInvalidation.class);
+        verify(invalidationRepository).save(row.capture());
+        return row.getValue().getOrigin();
+    }
+
+    private CalendarInvalidation invalidation(long version, long employeeId, String origin) {
+        CalendarInvalidation invalidation = new CalendarInvalidation(employeeId, origin, LocalDateTime.now());
+        invalidation.setVersion(version);
+        return invalidation;
+    }
+}
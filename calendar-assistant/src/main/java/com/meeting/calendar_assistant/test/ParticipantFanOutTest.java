@@ -0,0 +1,99 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.service.ParticipantFanOut;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParticipantFanOutTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void map_RunsLookupsConcurrentlyWithinLimitAndKeepsOrder() {
+        ParticipantFanOut fanOut = new ParticipantFanOut(executor, 4);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<Long> results = fanOut.map(participants(20), id -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(10);
+            inFlight.decrementAndGet();
+            return id * 10;
+        });
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i * 10L, results.get(i));
+        }
+        assertTrue(maxInFlight.get() > 1, "Lookups should overlap");
+        assertTrue(maxInFlight.get() <= 4, "At most 4 lookups may run at once");
+    }
+
+    @Test
+    void map_StaysOnCallingThreadWhenLimitIsOne() {
+        ParticipantFanOut fanOut = new ParticipantFanOut(task -> fail("Executor should not be used"), 1);
+        Thread caller = Thread.currentThread();
+
+        List<Boolean> onCaller = fanOut.map(participants(5), id -> Thread.currentThread() == caller);
+
+        assertEquals(List.of(true, true, true, true, true), onCaller);
+    }
+
+    @Test
+    void map_CompletesOnCallingThreadWhenExecutorRejects() {
+        ParticipantFanOut fanOut = new ParticipantFanOut(task -> {
+            throw new RejectedExecutionException("saturated");
+        }, 4);
+
+        assertEquals(List.of(1L, 2L, 3L), fanOut.map(List.of(0L, 1L, 2L), id -> id + 1));
+    }
+
+    @Test
+    void map_RethrowsLookupFailure() {
+        ParticipantFanOut fanOut = new ParticipantFanOut(executor, 4);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () ->
+                fanOut.map(participants(10), id -> {
+                    if (id == 7) {
+                        throw new IllegalArgumentException("Unknown participant 7");
+                    }
+                    return id;
+                }));
+
+        assertEquals("Unknown participant 7", thrown.getMessage());
+    }
+
+    @Test
+    void constructor_RejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new ParticipantFanOut(executor, 0));
+    }
+
+    private static List<Long> participants(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (long id = 0; id < count; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
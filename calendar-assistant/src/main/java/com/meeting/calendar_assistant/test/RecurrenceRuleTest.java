@@ -0,0 +1,77 @@
+package com.meeting.calendar_assistant.test;
+
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.model.RecurringMeeting.Frequency;
+import com.meeting.calendar_assistant.service.EmployeeCalendar;
+import com.meeting.calendar_assistant.service.RecurrenceRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceRuleTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 7, 0, 0);
+
+    @Test
+    void daily_ExpandsOnlyInsideTheWindowAndHonoursSkips() {
+        RecurringMeeting standup = series(DAY.withHour(9), DAY.withHour(9).withMinute(15), Frequency.DAILY, 1, null);
+        standup.getSkippedOccurrences().add(DAY.plusDays(2).withHour(9));
+        RecurrenceRule rule = RecurrenceRule.of(standup);
+
+        assertEquals(List.of(DAY.plusDays(1).withHour(9), DAY.plusDays(3).withHour(9)),
+                occurrences(rule, DAY.plusDays(1), DAY.plusDays(4)));
+        assertTrue(rule.overlaps(second(DAY.plusDays(400).withHour(9).withMinute(10)), second(DAY.plusDays(400).withHour(10))));
+        assertFalse(rule.overlaps(second(DAY.plusDays(2).withHour(9)), second(DAY.plusDays(2).withHour(9).withMinute(15))));
+        assertFalse(rule.overlaps(second(DAY.withHour(9).withMinute(15)), second(DAY.plusDays(1).withHour(9))));
+    }
+
+    @Test
+    void weekly_StepsByTheRepeatIntervalAndStopsAtUntil() {
+        RecurrenceRule rule = RecurrenceRule.of(series(DAY.withHour(14), DAY.withHour(15), Frequency.WEEKLY, 2,
+                DAY.plusWeeks(4).withHour(14)));
+
+        assertEquals(List.of(DAY.withHour(14), DAY.plusWeeks(2).withHour(14), DAY.plusWeeks(4).withHour(14)),
+                occurrences(rule, DAY.minusDays(1), DAY.plusWeeks(10)));
+        assertFalse(rule.overlaps(second(DAY.plusWeeks(1).withHour(14)), second(DAY.plusWeeks(1).withHour(15))));
+        assertTrue(rule.isOccurrence(second(DAY.plusWeeks(2).withHour(14))));
+        assertFalse(rule.isOccurrence(second(DAY.plusWeeks(6).withHour(14))));
+    }
+
+    @Test
+    void monthly_FallsOnTheLastDayOfShorterMonths() {
+        LocalDateTime first = LocalDateTime.of(2030, 1, 31, 10, 0);
+        RecurrenceRule rule = RecurrenceRule.of(series(first, first.plusHours(1), Frequency.MONTHLY, 1, null));
+
+        assertEquals(List.of(LocalDateTime.of(2030, 2, 28, 10, 0), LocalDateTime.of(2030, 3, 31, 10, 0)),
+                occurrences(rule, LocalDateTime.of(2030, 2, 1, 0, 0), LocalDateTime.of(2030, 4, 1, 0, 0)));
+        assertTrue(rule.isOccurrence(second(LocalDateTime.of(2035, 6, 30, 10, 0))));
+        assertFalse(rule.isOccurrence(second(LocalDateTime.of(2035, 6, 29, 10, 0))));
+    }
+
+    @Test
+    void occurrencesOverlapEachOther_WhenLongerThanThePeriod() {
+        assertTrue(RecurrenceRule.of(series(DAY, DAY.plusHours(25), Frequency.DAILY, 1, null)).occurrencesOverlapEachOther());
+        assertFalse(RecurrenceRule.of(series(DAY, DAY.plusHours(25), Frequency.WEEKLY, 1, null)).occurrencesOverlapEachOther());
+    }
+
+    private List<LocalDateTime> occurrences(RecurrenceRule rule, LocalDateTime from, LocalDateTime to) {
+        return Arrays.stream(rule.occurrencesOverlapping(second(from), second(to)))
+                .mapToObj(EmployeeCalendar::fromEpochSecond)
+                .toList();
+    }
+
+    private RecurringMeeting series(LocalDateTime startTime, LocalDateTime endTime, Frequency frequency, int repeatEvery,
+                                    LocalDateTime repeatUntil) {
+        RecurringMeeting series = new RecurringMeeting(startTime, endTime, frequency, repeatEvery, repeatUntil, null, "Series");
+        series.setId(50L);
+        return series;
+    }
+
+    private long second(LocalDateTime time) {
+        return EmployeeCalendar.toEpochSecond(time);
+    }
+}
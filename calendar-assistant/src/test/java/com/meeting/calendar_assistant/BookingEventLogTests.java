@@ -0,0 +1,65 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.service.BookingEventLog;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "calendar.persistence.engine=event-log")
+class BookingEventLogTests {
+
+	@TempDir
+	static Path dataDirectory;
+
+	// The engine refuses an in-memory database
+	@DynamicPropertySource
+	static void dataDirectory(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + dataDirectory.resolve("eventlog").toAbsolutePath());
+		registry.add("calendar.persistence.event-log.directory", () -> dataDirectory.resolve("booking-log").toString());
+	}
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private CalendarIndex calendarIndex;
+
+	@Autowired
+	private BookingEventLog bookingEventLog;
+
+	@Test
+	void calendarsAreServedFromTheLogOnceEvicted() {
+		Long organizerId = employeeRepository.save(new Employee("Logged organizer")).getId();
+		Long attendeeId = employeeRepository.save(new Employee("Logged attendee")).getId();
+		LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+		Meeting meeting = meetingService.bookGroupMeeting(organizerId, List.of(attendeeId), start, start.plusHours(1), "Logged");
+
+		assertEquals(1, bookingEventLog.calendarOf(attendeeId).size());
+		calendarIndex.evict(attendeeId);
+		assertEquals(List.of(attendeeId), meetingService.findConflictedParticipants(List.of(attendeeId), start, start.plusMinutes(30)));
+
+		meetingService.cancelMeeting(meeting.getId());
+
+		assertEquals(0, bookingEventLog.calendarOf(organizerId).size());
+		calendarIndex.evict(organizerId);
+		assertTrue(meetingService.findConflictedParticipants(List.of(organizerId), start, start.plusHours(1)).isEmpty());
+	}
+}
@@ -0,0 +1,261 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.CalendarInvalidationRepository;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.BookingExecutor;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.CalendarInvalidationBus;
+import com.meeting.calendar_assistant.service.MeetingService;
+import com.meeting.calendar_assistant.service.OutboxInvalidationBus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs several application contexts in one JVM against a shared H2 file database, standing in for replicas
+ * behind a load balancer, and checks that a write on one node evicts the cached calendar on the others.
+ */
+class CalendarCacheCoherenceTests {
+
+	private static final long AWAIT_MILLIS = 10_000;
+
+	@TempDir
+	Path databaseDir;
+
+	private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+	@AfterEach
+	void stopNodes() {
+		nodes.forEach(ConfigurableApplicationContext::close);
+	}
+
+	@Test
+	void outboxBusPropagatesWritesToEveryNode() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			startNode("outbox");
+		}
+		Long employeeId = nodes.get(0).getBean(EmployeeRepository.class).save(new Employee("Shared Executive")).getId();
+		LocalDateTime startTime = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+		LocalDateTime endTime = startTime.plusHours(1);
+
+		// Every node caches the empty calendar before the booking
+		for (ConfigurableApplicationContext node : nodes) {
+			assertFalse(index(node).hasOverlap(employeeId, startTime, endTime));
+		}
+
+		Meeting meeting = service(nodes.get(0)).bookMeeting(employeeId, startTime, endTime, "Board Review");
+
+		assertTrue(index(nodes.get(0)).hasOverlap(employeeId, startTime, endTime));
+		for (ConfigurableApplicationContext node : nodes) {
+			await(() -> index(node).hasOverlap(employeeId, startTime, endTime));
+		}
+
+		service(nodes.get(2)).cancelMeeting(meeting.getId());
+
+		for (ConfigurableApplicationContext node : nodes) {
+			await(() -> !index(node).hasOverlap(employeeId, startTime, endTime));
+		}
+	}
+
+	@Test
+	void outboxBusSeesAnInvalidationThatCommitsAfterALaterOne() throws Exception {
+		startNode("outbox");
+		startNode("outbox");
+		EmployeeRepository employees = nodes.get(0).getBean(EmployeeRepository.class);
+		Long slowId = employees.save(new Employee("Slow Commit")).getId();
+		Long fastId = employees.save(new Employee("Fast Commit")).getId();
+		index(nodes.get(1)).calendarOf(slowId);
+		index(nodes.get(1)).calendarOf(fastId);
+
+		// The slow publish takes the lower version but only commits once the faster one has been polled
+		CountDownLatch inserted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TransactionTemplate transaction = new TransactionTemplate(nodes.get(0).getBean(PlatformTransactionManager.class));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> slow = executor.submit(() -> transaction.executeWithoutResult(status -> {
+				bus(nodes.get(0)).publish(slowId);
+				inserted.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}));
+			assertTrue(inserted.await(AWAIT_MILLIS, TimeUnit.MILLISECONDS));
+			bus(nodes.get(0)).publish(fastId);
+			await(() -> !index(nodes.get(1)).isCached(fastId));
+			bus(nodes.get(1)).poll();
+			assertTrue(index(nodes.get(1)).isCached(slowId));
+
+			release.countDown();
+			slow.get(AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+
+		await(() -> !index(nodes.get(1)).isCached(slowId));
+	}
+
+	// The stripe locks of one node do not exclude the others, so the bookings race through the database
+	@Test
+	void concurrentBookingsOnSeveralNodesNeverOverlap() throws Exception {
+		startNode("outbox");
+		startNode("outbox");
+		Long employeeId = nodes.get(0).getBean(EmployeeRepository.class).save(new Employee("Replicated Executive")).getId();
+		LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+
+		AtomicInteger booked = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				MeetingService service = service(nodes.get(t % nodes.size()));
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < 20; i++) {
+						LocalDateTime startTime = base.plusMinutes(15L * ThreadLocalRandom.current().nextInt(16));
+						LocalDateTime endTime = startTime.plusMinutes(15L * (1 + ThreadLocalRandom.current().nextInt(4)));
+						try {
+							service.bookMeeting(employeeId, startTime, endTime, "Replicated");
+							booked.incrementAndGet();
+						} catch (MeetingConflictException e) {
+							// Expected for most attempts
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		List<Meeting> meetings = new ArrayList<>(nodes.get(0).getBean(MeetingRepository.class).findByEmployee_Id(employeeId));
+		meetings.sort(Comparator.comparing(Meeting::getStartTime));
+		for (int i = 1; i < meetings.size(); i++) {
+			assertFalse(meetings.get(i).getStartTime().isBefore(meetings.get(i - 1).getEndTime()),
+					"Double booking between " + meetings.get(i - 1) + " and " + meetings.get(i));
+		}
+		assertEquals(booked.get(), meetings.size());
+	}
+
+	@Test
+	void outboxRowsRollBackWithTheirWrite() {
+		startNode("outbox");
+		Long employeeId = nodes.get(0).getBean(EmployeeRepository.class).save(new Employee("Rolled Back")).getId();
+		AtomicLong version = new AtomicLong();
+
+		assertThrows(IllegalStateException.class, () -> executor(nodes.get(0)).execute(employeeId, () -> {
+			version.set(bus(nodes.get(0)).publish(employeeId));
+			throw new IllegalStateException("Write failed after publishing");
+		}));
+
+		assertFalse(nodes.get(0).getBean(CalendarInvalidationRepository.class).existsById(version.get()));
+	}
+
+	@Test
+	void inJvmBusEvictsOtherContextsOnlyOnceTheWriteCommits() {
+		startNode("in-jvm");
+		startNode("in-jvm");
+		Long employeeId = nodes.get(0).getBean(EmployeeRepository.class).save(new Employee("Uncommitted")).getId();
+		index(nodes.get(1)).calendarOf(employeeId);
+
+		assertThrows(IllegalStateException.class, () -> executor(nodes.get(0)).execute(employeeId, () -> {
+			nodes.get(0).getBean(CalendarInvalidationBus.class).publish(employeeId);
+			assertTrue(index(nodes.get(1)).isCached(employeeId));
+			throw new IllegalStateException("Write failed after publishing");
+		}));
+		assertTrue(index(nodes.get(1)).isCached(employeeId));
+
+		executor(nodes.get(0)).execute(employeeId, () -> nodes.get(0).getBean(CalendarInvalidationBus.class).publish(employeeId));
+		assertFalse(index(nodes.get(1)).isCached(employeeId));
+	}
+
+	@Test
+	void inJvmBusEvictsOtherContextsSynchronously() {
+		startNode("in-jvm");
+		startNode("in-jvm");
+		Long employeeId = nodes.get(0).getBean(EmployeeRepository.class).save(new Employee("Local Executive")).getId();
+		LocalDateTime startTime = LocalDateTime.now().plusDays(1).withHour(14).withMinute(0).withSecond(0).withNano(0);
+		LocalDateTime endTime = startTime.plusMinutes(30);
+
+		assertFalse(index(nodes.get(1)).hasOverlap(employeeId, startTime, endTime));
+
+		service(nodes.get(0)).bookMeeting(employeeId, startTime, endTime, "Standup");
+
+		assertTrue(index(nodes.get(1)).hasOverlap(employeeId, startTime, endTime));
+	}
+
+	private void startNode(String bus) {
+		nodes.add(new SpringApplicationBuilder(CalendarAssistantApplication.class)
+				.web(WebApplicationType.NONE)
+				// Arguments rather than default properties, which application.properties would override
+				.run(
+						"--spring.datasource.url=jdbc:h2:file:" + databaseDir.resolve("calendar").toAbsolutePath(),
+						// Hibernate creates the schema on the first node; later nodes must neither drop it nor re-run schema.sql
+						"--spring.jpa.hibernate.ddl-auto=update",
+						"--spring.sql.init.mode=never",
+						"--spring.jpa.show-sql=false",
+						"--calendar.cache.invalidation.bus=" + bus,
+						"--calendar.cache.invalidation.poll-interval-ms=50"));
+	}
+
+	private static MeetingService service(ConfigurableApplicationContext node) {
+		return node.getBean(MeetingService.class);
+	}
+
+	// The bean is proxied behind its interface
+	private static OutboxInvalidationBus bus(ConfigurableApplicationContext node) {
+		return AopTestUtils.getTargetObject(node.getBean(CalendarInvalidationBus.class));
+	}
+
+	private static BookingExecutor executor(ConfigurableApplicationContext node) {
+		return node.getBean(BookingExecutor.class);
+	}
+
+	private static CalendarIndex index(ConfigurableApplicationContext node) {
+		return node.getBean(CalendarIndex.class);
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < deadline, "Node did not observe the change in time");
+			Thread.sleep(20);
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.BusyInterval;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:group")
+class GroupBookingTests {
+
+	static final int EMPLOYEES = 6;
+	static final int THREADS = 16;
+	static final int BOOKINGS_PER_THREAD = 25;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Test
+	void groupMeetingBlocksEveryAttendeeAndCancellingFreesThem() {
+		Long organizerId = employeeRepository.save(new Employee("Organizer")).getId();
+		Long attendeeId = employeeRepository.save(new Employee("Attendee")).getId();
+		LocalDateTime start = LocalDateTime.now().plusDays(2).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+		Meeting meeting = meetingService.bookGroupMeeting(organizerId, List.of(attendeeId), start, start.plusHours(1), "Kick-off");
+
+		assertThrows(MeetingConflictException.class,
+				() -> meetingService.bookMeeting(attendeeId, start.plusMinutes(30), start.plusMinutes(90), "Clash"));
+		assertEquals(List.of(attendeeId),
+				meetingService.findConflictedParticipants(List.of(attendeeId), start, start.plusMinutes(30)));
+
+		meetingService.cancelMeeting(meeting.getId());
+
+		assertTrue(meetingService.findConflictedParticipants(List.of(organizerId, attendeeId), start, start.plusHours(1)).isEmpty());
+		meetingService.bookMeeting(attendeeId, start.plusMinutes(30), start.plusMinutes(90), "Now free");
+	}
+
+	@Test
+	void concurrentGroupBookingsWithSharedAttendeesNeverOverlap() throws Exception {
+		List<Long> employeeIds = new ArrayList<>();
+		for (int i = 0; i < EMPLOYEES; i++) {
+			employeeIds.add(employeeRepository.save(new Employee("Group member " + i)).getId());
+		}
+		LocalDateTime base = LocalDateTime.now().plusDays(3).withHour(8).withMinute(0).withSecond(0).withNano(0);
+
+		AtomicInteger booked = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < BOOKINGS_PER_THREAD; i++) {
+						// Random overlapping groups in random order; a lock order taken from the request would deadlock
+						List<Long> group = new ArrayList<>(employeeIds);
+						Collections.shuffle(group, ThreadLocalRandom.current());
+						group = group.subList(0, 2 + ThreadLocalRandom.current().nextInt(3));
+						LocalDateTime startTime = base.plusMinutes(15L * ThreadLocalRandom.current().nextInt(40));
+						LocalDateTime endTime = startTime.plusMinutes(15L * (1 + ThreadLocalRandom.current().nextInt(4)));
+						try {
+							meetingService.bookGroupMeeting(group.get(0), group.subList(1, group.size()), startTime, endTime, "Group");
+							booked.incrementAndGet();
+						} catch (MeetingConflictException e) {
+							rejected.incrementAndGet();
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		int organized = 0;
+		for (Long employeeId : employeeIds) {
+			organized += meetingRepository.findByEmployee_Id(employeeId).size();
+			List<BusyInterval> busy = new ArrayList<>(meetingRepository.findBusyIntervalsByEmployee_Id(employeeId));
+			busy.addAll(meetingRepository.findAttendedBusyIntervals(employeeId));
+			busy.sort(Comparator.comparing(BusyInterval::getStartTime));
+			for (int i = 1; i < busy.size(); i++) {
+				assertFalse(busy.get(i).getStartTime().isBefore(busy.get(i - 1).getEndTime()),
+						"Double booking of employee " + employeeId + " in meetings " + busy.get(i - 1).getId()
+								+ " and " + busy.get(i).getId());
+			}
+		}
+		assertEquals(booked.get(), organized);
+		assertEquals(THREADS * BOOKINGS_PER_THREAD, booked.get() + rejected.get());
+		assertTrue(booked.get() > 0);
+	}
+}
@@ -0,0 +1,68 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingHistoryEntry;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.MeetingArchiveService;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:archive",
+		"calendar.archive.batch-size=2"
+})
+class MeetingArchiveTests {
+
+	@Autowired
+	private MeetingArchiveService meetingArchiveService;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Test
+	void archivedMeetingsLeaveTheHotPathsButStayInTheHistory() {
+		Long organizerId = employeeRepository.save(new Employee("Archived organizer")).getId();
+		Long attendeeId = employeeRepository.save(new Employee("Archived attendee")).getId();
+		LocalDateTime day = LocalDateTime.now().plusDays(5).withHour(0).withMinute(0).withSecond(0).withNano(0);
+		Meeting group = meetingService.bookGroupMeeting(organizerId, List.of(attendeeId), day.withHour(9), day.withHour(10), "Retro");
+		Meeting single = meetingService.bookMeeting(organizerId, day.withHour(11), day.withHour(12), "Planning");
+		Meeting later = meetingService.bookMeeting(organizerId, day.plusDays(1).withHour(9), day.plusDays(1).withHour(10), "Review");
+		// Warm the calendars, so the archive has to update them rather than just not being loaded yet
+		assertEquals(List.of(organizerId, attendeeId),
+				meetingService.findConflictedParticipants(List.of(organizerId, attendeeId), day.withHour(9), day.withHour(10)));
+
+		// Cuts off everything up to the end of the first day; more than one batch of two
+		long archived = meetingArchiveService.archiveEndedBefore(day.plusDays(1));
+
+		assertEquals(2, archived);
+		assertFalse(meetingRepository.existsById(group.getId()));
+		assertTrue(meetingRepository.existsById(later.getId()));
+		assertTrue(meetingService.findConflictedParticipants(List.of(organizerId, attendeeId), day.withHour(9), day.withHour(12)).isEmpty());
+		assertEquals(List.of(organizerId),
+				meetingService.findConflictedParticipants(List.of(organizerId), day.plusDays(1).withHour(9), day.plusDays(1).withHour(10)));
+
+		List<MeetingHistoryEntry> history = meetingArchiveService.findHistory(organizerId, day, day.plusDays(2));
+		assertEquals(List.of(group.getId(), single.getId(), later.getId()), history.stream().map(MeetingHistoryEntry::getId).toList());
+		assertEquals(List.of(true, true, false), history.stream().map(MeetingHistoryEntry::isArchived).toList());
+		assertEquals(List.of(attendeeId), history.get(0).getAttendeeIds());
+
+		List<MeetingHistoryEntry> attended = meetingArchiveService.findHistory(attendeeId, day, day.plusDays(2));
+		assertEquals(List.of(group.getId()), attended.stream().map(MeetingHistoryEntry::getId).toList());
+		assertEquals(organizerId, attended.get(0).getEmployeeId());
+	}
+}
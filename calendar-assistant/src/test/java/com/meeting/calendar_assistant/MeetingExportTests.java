@@ -0,0 +1,80 @@
+package com.meeting.calendar_assistant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingExportRow;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.service.MeetingExportService;
+import com.meeting.calendar_assistant.service.MeetingExportService.Format;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MeetingExportTests {
+
+	@Autowired
+	private MeetingExportService meetingExportService;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void exportStreamsMeetingsStartingInsideTheRangeAsNdjsonAndCsv() throws Exception {
+		Long employeeId = employeeRepository.save(new Employee("Exported Employee")).getId();
+		LocalDateTime day = LocalDateTime.now().plusYears(2).withHour(0).withMinute(0).withSecond(0).withNano(0);
+		Meeting first = meetingService.bookMeeting(employeeId, day.withHour(9), day.withHour(10), "Standup");
+		Meeting second = meetingService.bookMeeting(employeeId, day.withHour(11), day.withHour(12), "Review, \"final\"");
+		meetingService.bookMeeting(employeeId, day.plusDays(1).withHour(9), day.plusDays(1).withHour(10), "Next day");
+
+		ByteArrayOutputStream ndjson = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				fail("The export must not close the response stream");
+			}
+		};
+		assertEquals(2, meetingExportService.exportMeetings(day, day.plusDays(1), Format.NDJSON, ndjson));
+
+		List<MeetingExportRow> rows = new ArrayList<>();
+		for (String line : ndjson.toString(StandardCharsets.UTF_8).split("\n")) {
+			rows.add(objectMapper.readValue(line, MeetingExportRow.class));
+		}
+		assertEquals(List.of(first.getId(), second.getId()), rows.stream().map(MeetingExportRow::getId).toList());
+		assertEquals(employeeId, rows.get(0).getEmployeeId());
+		assertEquals(day.withHour(9), rows.get(0).getStartTime());
+
+		ByteArrayOutputStream csv = new ByteArrayOutputStream();
+		meetingExportService.exportMeetings(day, day.plusDays(1), Format.CSV, csv);
+		String[] lines = csv.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(3, lines.length);
+		assertEquals("id,employeeId,startTime,endTime,title", lines[0]);
+		assertTrue(lines[2].endsWith(",\"Review, \"\"final\"\"\""));
+	}
+
+	@Test
+	void exportRejectsAnEmptyOrReversedWindow() {
+		LocalDateTime day = LocalDateTime.now().plusYears(2).withHour(0).withMinute(0).withSecond(0).withNano(0);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		assertThrows(IllegalArgumentException.class, () -> meetingExportService.exportMeetings(day, day, Format.CSV, output));
+		assertThrows(IllegalArgumentException.class,
+				() -> meetingExportService.exportMeetings(day.plusDays(1), day, Format.NDJSON, output));
+		assertEquals(0, output.size());
+	}
+}
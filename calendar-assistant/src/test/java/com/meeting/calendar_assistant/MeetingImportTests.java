@@ -0,0 +1,93 @@
+package com.meeting.calendar_assistant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.MeetingImportResult;
+import com.meeting.calendar_assistant.model.MeetingImportResult.Status;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.MeetingImportService;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MeetingImportTests {
+
+	@Autowired
+	private MeetingImportService meetingImportService;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Autowired
+	private CalendarIndex calendarIndex;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void importReportsOneResultPerRecordInInputOrder() throws Exception {
+		Long employeeId = employeeRepository.save(new Employee("Imported Employee")).getId();
+		LocalDateTime day = LocalDateTime.now().plusDays(3).withHour(0).withMinute(0).withSecond(0).withNano(0);
+		meetingService.bookMeeting(employeeId, day.withHour(9), day.withHour(10), "Existing");
+
+		String ndjson = String.join("\n",
+				record(employeeId, day.withHour(11), day.withHour(12), "Accepted"),
+				record(employeeId, day.withHour(9).withMinute(30), day.withHour(10).withMinute(30), "Overlaps existing"),
+				"",
+				record(employeeId, day.withHour(11).withMinute(30), day.withHour(13), "Overlaps earlier record"),
+				record(-1L, day.withHour(11), day.withHour(12), "Unknown employee"),
+				"{not json",
+				record(employeeId, day.withHour(14), day.withHour(13), "Ends before it starts"),
+				record(employeeId, day.minusDays(10).withHour(9), day.minusDays(10).withHour(10), "In the past"),
+				record(employeeId, day.withHour(10), day.withHour(11), "Back to back"));
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				fail("The import must not close the response stream");
+			}
+		};
+		meetingImportService.importMeetings(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), output);
+
+		List<MeetingImportResult> results = new ArrayList<>();
+		for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+			results.add(objectMapper.readValue(line, MeetingImportResult.class));
+		}
+
+		assertEquals(List.of(1L, 2L, 4L, 5L, 6L, 7L, 8L, 9L), results.stream().map(MeetingImportResult::getLine).toList());
+		assertEquals(List.of(Status.CREATED, Status.CONFLICT, Status.CONFLICT, Status.EMPLOYEE_NOT_FOUND,
+				Status.INVALID, Status.INVALID, Status.INVALID, Status.CREATED),
+				results.stream().map(MeetingImportResult::getStatus).toList());
+		assertNotNull(results.get(0).getMeetingId());
+		assertEquals("End time must be in the future; Start time must be in the future", results.get(6).getMessage());
+
+		assertEquals(3, meetingRepository.findByEmployee_Id(employeeId).size());
+		assertTrue(calendarIndex.hasOverlap(employeeId, day.withHour(11), day.withHour(12)));
+		assertTrue(calendarIndex.hasOverlap(employeeId, day.withHour(10), day.withHour(11)));
+	}
+
+	private String record(Long employeeId, LocalDateTime startTime, LocalDateTime endTime, String title) {
+		return String.format("{\"employeeId\":%d,\"startTime\":\"%s\",\"endTime\":\"%s\",\"title\":\"%s\"}",
+				employeeId, startTime, endTime, title);
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class MeetingServiceConcurrencyTests {
+
+	static final int THREADS = 32;
+	static final int BOOKINGS_PER_THREAD = 25;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private MeetingRepository meetingRepository;
+
+	@Test
+	void concurrentBookingsForOneEmployeeNeverOverlap() throws Exception {
+		Long employeeId = employeeRepository.save(new Employee("Contended Executive")).getId();
+		LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+
+		AtomicInteger booked = new AtomicInteger();
+		AtomicInteger rejected = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < BOOKINGS_PER_THREAD; i++) {
+						// 15-minute grid over 10 hours with 15-60 minute meetings guarantees heavy contention
+						LocalDateTime startTime = base.plusMinutes(15L * ThreadLocalRandom.current().nextInt(40));
+						LocalDateTime endTime = startTime.plusMinutes(15L * (1 + ThreadLocalRandom.current().nextInt(4)));
+						try {
+							meetingService.bookMeeting(employeeId, startTime, endTime, "Stress");
+							booked.incrementAndGet();
+						} catch (MeetingConflictException e) {
+							rejected.incrementAndGet();
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(2, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		List<Meeting> meetings = new ArrayList<>(meetingRepository.findByEmployee_Id(employeeId));
+		meetings.sort(Comparator.comparing(Meeting::getStartTime));
+		for (int i = 1; i < meetings.size(); i++) {
+			assertFalse(meetings.get(i).getStartTime().isBefore(meetings.get(i - 1).getEndTime()),
+					"Double booking between " + meetings.get(i - 1) + " and " + meetings.get(i));
+		}
+		assertEquals(booked.get(), meetings.size());
+		assertEquals(THREADS * BOOKINGS_PER_THREAD, booked.get() + rejected.get());
+		assertTrue(booked.get() > 0);
+	}
+
+	// Windows are half-open, so meetings ending or starting exactly at the boundary leave it free
+	@Test
+	void testBookMeeting_AdjacentMeetingDoesNotConflict() {
+		Long employeeId = employeeRepository.save(new Employee("Back to Back")).getId();
+		LocalDateTime startTime = LocalDateTime.now().plusDays(2).withHour(10).withMinute(0).withSecond(0).withNano(0);
+		LocalDateTime endTime = startTime.plusHours(1);
+		meetingService.bookMeeting(employeeId, startTime.minusHours(1), startTime, "Before");
+		meetingService.bookMeeting(employeeId, endTime, endTime.plusHours(1), "After");
+
+		assertTrue(meetingRepository.findOverlapping(employeeId, startTime, endTime).isEmpty());
+		assertNotNull(meetingService.bookMeeting(employeeId, startTime, endTime, "Back to Back"));
+		assertEquals(3, meetingRepository.findOverlapping(employeeId, startTime.minusHours(1), endTime.plusHours(1)).size());
+	}
+
+}
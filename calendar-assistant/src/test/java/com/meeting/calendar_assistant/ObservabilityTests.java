@@ -0,0 +1,75 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.datasource.url=jdbc:h2:mem:observability")
+@AutoConfigureObservability
+class ObservabilityTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private HealthEndpoint healthEndpoint;
+
+	@Test
+	void schedulingMetricsAreScrapedInPrometheusFormat() {
+		Long employeeId = employeeRepository.save(new Employee("Observed")).getId();
+		LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+		meetingService.bookMeeting(employeeId, start, start.plusHours(1), "Observed meeting");
+		meetingService.findConflictedParticipants(List.of(employeeId), start, start.plusMinutes(30));
+
+		ResponseEntity<String> scrape = restTemplate.getForEntity("/actuator/prometheus", String.class);
+		assertEquals(HttpStatus.OK, scrape.getStatusCode());
+		assertTrue(scrape.getBody().contains("calendar_operation_seconds_bucket{"));
+		assertTrue(scrape.getBody().contains("calendar_conflicts_total{operation=\"conflicts\"} 1.0"));
+		assertTrue(scrape.getBody().contains("calendar_request_participants_count{operation=\"book\"} 1"));
+	}
+
+	@Test
+	void healthReportsTheDatabaseAndTheCalendarCaches() {
+		CompositeHealth health = (CompositeHealth) healthEndpoint.health();
+
+		assertEquals(Status.UP, health.getStatus());
+		assertEquals(Status.UP, health.getComponents().get("db").getStatus());
+		Health calendarCache = (Health) health.getComponents().get("calendarCache");
+		assertEquals(Status.UP, calendarCache.getStatus());
+		assertTrue(calendarCache.getDetails().containsKey("cachedCalendars"));
+	}
+
+	@Test
+	void publicHealthEndpointsOnlyReportTheStatus() {
+		for (String path : List.of("/api/meetings/health", "/actuator/health")) {
+			ResponseEntity<Map> health = restTemplate.getForEntity(path, Map.class);
+
+			assertEquals(HttpStatus.OK, health.getStatusCode());
+			assertEquals(Map.of("status", "UP"), health.getBody());
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.service.BookingExecutor;
+import com.meeting.calendar_assistant.service.OptimisticBookingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+		"calendar.booking.concurrency=optimistic",
+		"spring.datasource.url=jdbc:h2:mem:optimistic"
+})
+class OptimisticBookingConcurrencyTests extends MeetingServiceConcurrencyTests {
+
+	@Autowired
+	private BookingExecutor bookingExecutor;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void optimisticModeIsSelectedAndInstrumented() throws Exception {
+		assertInstanceOf(OptimisticBookingExecutor.class, bookingExecutor);
+		double attemptsBefore = count("calendar.booking.optimistic.attempts");
+
+		// Asserts there is no double booking; how many attempts collide depends on the scheduler
+		concurrentBookingsForOneEmployeeNeverOverlap();
+
+		double retries = count("calendar.booking.optimistic.retries");
+		assertTrue(count("calendar.booking.optimistic.attempts") - attemptsBefore >= THREADS * BOOKINGS_PER_THREAD);
+		assertTrue(count("calendar.booking.optimistic.aborts") <= retries);
+	}
+
+	@Test
+	void aWriteThatLosesTheVersionCheckIsRetried() throws Exception {
+		Long employeeId = employeeRepository.save(new Employee("Versioned Employee")).getId();
+		double retriesBefore = count("calendar.booking.optimistic.retries");
+		CountDownLatch read = new CountDownLatch(1);
+		CountDownLatch overtaken = new CountDownLatch(1);
+		AtomicInteger attempts = new AtomicInteger();
+
+		// The first attempt holds its transaction open until another write to the same calendar has committed
+		CompletableFuture<Integer> slow = CompletableFuture.supplyAsync(() -> bookingExecutor.execute(employeeId, () -> {
+			if (attempts.incrementAndGet() == 1) {
+				read.countDown();
+				try {
+					assertTrue(overtaken.await(10, TimeUnit.SECONDS));
+				} catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+			return attempts.get();
+		}));
+		assertTrue(read.await(10, TimeUnit.SECONDS));
+		bookingExecutor.execute(employeeId, () -> null);
+		overtaken.countDown();
+
+		assertEquals(2, slow.get(10, TimeUnit.SECONDS));
+		assertEquals(1, count("calendar.booking.optimistic.retries") - retriesBefore);
+	}
+
+	private double count(String counter) {
+		return meterRegistry.get(counter).counter().count();
+	}
+}
@@ -0,0 +1,143 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.MeetingRequest;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.url=jdbc:h2:mem:reactive",
+		"spring.r2dbc.url=r2dbc:h2:mem:///reactive"
+})
+@ActiveProfiles("reactive")
+class ReactiveMeetingApiTests {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ReactiveWebServerApplicationContext context;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private CalendarIndex calendarIndex;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Test
+	void servesTheApiFromNetty() {
+		assertInstanceOf(NettyWebServer.class, context.getWebServer());
+	}
+
+	@Test
+	void bookingIsVisibleToConflictsAndStreamedSlots() {
+		Long employeeId = employeeRepository.save(new Employee("Reactive Lead")).getId();
+		LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+		LocalDateTime startTime = day.withHour(10);
+		LocalDateTime endTime = day.withHour(11);
+		// Cache the empty calendar so the booking has to update it in place
+		assertFalse(calendarIndex.hasOverlap(employeeId, startTime, endTime));
+
+		Meeting booked = webTestClient.post().uri("/api/meetings")
+				.bodyValue(request(employeeId, startTime, endTime))
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody(Meeting.class).returnResult().getResponseBody();
+		assertNotNull(booked);
+		assertNotNull(booked.getId());
+		assertTrue(calendarIndex.hasOverlap(employeeId, startTime, endTime));
+
+		webTestClient.post().uri("/api/meetings")
+				.bodyValue(request(employeeId, startTime.plusMinutes(30), endTime.plusMinutes(30)))
+				.exchange()
+				.expectStatus().isEqualTo(409);
+
+		webTestClient.post().uri("/api/meetings/conflicts?startTime={start}&endTime={end}", startTime, endTime)
+				.bodyValue(List.of(employeeId))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBodyList(Long.class).isEqualTo(List.of(employeeId));
+
+		LocalDateTime from = day.withHour(9);
+		LocalDateTime to = from.plusDays(3);
+		List<LocalDateTime> streamed = webTestClient.post().uri("/api/meetings/free-slots/search")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.bodyValue(Map.of("participantIds", List.of(employeeId), "from", from, "to", to,
+						"durationInMinutes", 60, "granularityInMinutes", 30))
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(LocalDateTime.class)
+				.getResponseBody().collectList().block();
+
+		assertEquals(List.of(day.withHour(9), day.withHour(11), day.withHour(11).withMinute(30)), streamed.subList(0, 3));
+		// Searching a day at a time finds exactly what the servlet stack finds over the whole horizon
+		assertEquals(meetingService.findFreeSlots(List.of(employeeId), from, to, 60, 30), streamed);
+	}
+
+	@Test
+	void nextSlotsStopAtTheLimit() {
+		Long employeeId = employeeRepository.save(new Employee("Next Slots")).getId();
+		LocalDateTime from = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+		List<LocalDateTime> nextSlots = webTestClient.get()
+				.uri("/api/meetings/free-slots/next?participantIds={id}&duration=60&from={from}&limit=2", employeeId, from)
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.returnResult(LocalDateTime.class)
+				.getResponseBody().collectList().block();
+
+		assertEquals(List.of(from, from.plusMinutes(30)), nextSlots);
+	}
+
+	@Test
+	void bookingForUnknownEmployeeIsNotFound() {
+		LocalDateTime startTime = LocalDateTime.now().plusDays(1).withHour(14).withMinute(0).withSecond(0).withNano(0);
+
+		webTestClient.post().uri("/api/meetings")
+				.bodyValue(request(Long.MAX_VALUE, startTime, startTime.plusHours(1)))
+				.exchange()
+				.expectStatus().isNotFound();
+	}
+
+	@Test
+	void invalidSearchIsRejected() {
+		LocalDateTime from = LocalDateTime.now().plusDays(1);
+
+		webTestClient.post().uri("/api/meetings/free-slots/search")
+				.bodyValue(Map.of("participantIds", List.of(1L), "from", from, "to", from.plusDays(1),
+						"durationInMinutes", 0))
+				.exchange()
+				.expectStatus().isBadRequest();
+	}
+
+	private static MeetingRequest request(Long employeeId, LocalDateTime startTime, LocalDateTime endTime) {
+		MeetingRequest request = new MeetingRequest();
+		request.setEmployeeId(employeeId);
+		request.setStartTime(startTime);
+		request.setEndTime(endTime);
+		request.setTitle("Roadmap");
+		return request;
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.exception.MeetingConflictException;
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.model.RecurringMeeting;
+import com.meeting.calendar_assistant.model.RecurringMeetingRequest;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.RecurringMeetingRepository;
+import com.meeting.calendar_assistant.service.CalendarIndex;
+import com.meeting.calendar_assistant.service.MeetingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		properties = "spring.datasource.url=jdbc:h2:mem:recurring")
+class RecurringMeetingTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private MeetingService meetingService;
+
+	@Autowired
+	private CalendarIndex calendarIndex;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private RecurringMeetingRepository recurringMeetingRepository;
+
+	@Test
+	void seriesIsStoredOnceAndBlocksEveryOccurrenceUntilSkipped() {
+		Long employeeId = employeeRepository.save(new Employee("Recurring Owner")).getId();
+		LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+
+		RecurringMeetingRequest request = new RecurringMeetingRequest();
+		request.setEmployeeId(employeeId);
+		request.setStartTime(day.withHour(9));
+		request.setEndTime(day.withHour(9).withMinute(15));
+		request.setTitle("Standup");
+		request.setFrequency(RecurringMeeting.Frequency.DAILY);
+		request.setSkippedOccurrences(List.of(day.plusDays(1).withHour(9)));
+
+		ResponseEntity<Map> created = restTemplate.postForEntity("/api/meetings/recurring", request, Map.class);
+		assertEquals(HttpStatus.CREATED, created.getStatusCode());
+		Long seriesId = ((Number) created.getBody().get("id")).longValue();
+		assertEquals(employeeId, ((Number) created.getBody().get("employee")).longValue());
+		assertEquals(1, recurringMeetingRepository.findWithSkippedOccurrencesByEmployeeId(employeeId).size());
+
+		// Conflicts are found a year out, both in the cached calendar and after a reload from the database
+		LocalDateTime nextYear = day.plusDays(365);
+		assertThrows(MeetingConflictException.class, () ->
+				meetingService.bookMeeting(employeeId, nextYear.withHour(9), nextYear.withHour(10), "Clash"));
+		calendarIndex.evict(employeeId);
+		assertEquals(List.of(employeeId), meetingService.findConflictedParticipants(List.of(employeeId),
+				nextYear.withHour(9).withMinute(10), nextYear.withHour(9).withMinute(20)));
+		assertEquals(List.of(seriesId), calendarIndex.findOverlapping(employeeId, day, day.plusDays(7)));
+
+		// The occurrence skipped at creation and one skipped afterwards are both bookable
+		Meeting skippedAtCreation = meetingService.bookMeeting(employeeId, day.plusDays(1).withHour(9),
+				day.plusDays(1).withHour(10), "Instead of standup");
+		assertNotNull(skippedAtCreation.getId());
+		assertNotEquals(seriesId, skippedAtCreation.getId());
+
+		ResponseEntity<Map> skipped = restTemplate.exchange("/api/meetings/recurring/{id}/occurrences?startTime={start}",
+				HttpMethod.DELETE, null, Map.class, seriesId, day.plusDays(2).withHour(9));
+		assertEquals(HttpStatus.OK, skipped.getStatusCode());
+		meetingService.bookMeeting(employeeId, day.plusDays(2).withHour(9), day.plusDays(2).withHour(10), "Offsite");
+
+		// A second series that lands on the first one is refused
+		request.setStartTime(day.plusDays(5).withHour(9).withMinute(10));
+		request.setEndTime(day.plusDays(5).withHour(9).withMinute(40));
+		request.setFrequency(RecurringMeeting.Frequency.WEEKLY);
+		request.setSkippedOccurrences(null);
+		assertEquals(HttpStatus.CONFLICT,
+				restTemplate.postForEntity("/api/meetings/recurring", request, Map.class).getStatusCode());
+
+		restTemplate.delete("/api/meetings/recurring/{id}", seriesId);
+		assertFalse(calendarIndex.hasOverlap(employeeId, nextYear.withHour(9), nextYear.withHour(10)));
+		assertTrue(recurringMeetingRepository.findById(seriesId).isEmpty());
+	}
+}
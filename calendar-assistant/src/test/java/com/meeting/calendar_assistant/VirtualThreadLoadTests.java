@@ -0,0 +1,148 @@
+package com.meeting.calendar_assistant;
+
+import com.meeting.calendar_assistant.model.Employee;
+import com.meeting.calendar_assistant.model.Meeting;
+import com.meeting.calendar_assistant.repository.EmployeeRepository;
+import com.meeting.calendar_assistant.repository.MeetingRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Throughput of the conflict check with more concurrent clients than Tomcat has platform threads, with and without
+ * the virtual-threads profile. Calendar caching is switched off so every participant lookup blocks on the database.
+ * <p>
+ * Excluded from the default build; run with {@code mvn -Pload-test test}, and on JDK 21 with {@code -Pjdk21} to
+ * include the virtual-thread run.
+ */
+@Tag("load")
+class VirtualThreadLoadTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadLoadTests.class);
+
+	private static final int CLIENTS = 1200;
+	private static final int REQUESTS_PER_CLIENT = 10;
+	private static final int EMPLOYEES = 200;
+	private static final int MEETINGS_PER_EMPLOYEE = 20;
+	private static final int PARTICIPANTS_PER_REQUEST = 8;
+
+	@Test
+	void conflictCheckThroughputAtOneThousandPlusClients() throws Exception {
+		double platform = measure(false);
+		logger.info("Platform threads: {} requests/s with {} concurrent clients", Math.round(platform), CLIENTS);
+
+		if (Runtime.version().feature() < 21) {
+			logger.info("Virtual threads need JDK 21; skipping the comparison on JDK {}", Runtime.version().feature());
+			return;
+		}
+		double virtual = measure(true);
+		logger.info("Virtual threads: {} requests/s with {} concurrent clients ({}x the platform baseline)",
+				Math.round(virtual), CLIENTS, String.format("%.2f", virtual / platform));
+	}
+
+	private double measure(boolean virtualThreads) throws Exception {
+		String mode = virtualThreads ? "virtual" : "platform";
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CalendarAssistantApplication.class)
+				.profiles(virtualThreads ? "virtual-threads" : "default")
+				.properties(
+						"server.port=0",
+						"spring.datasource.url=jdbc:h2:mem:load-" + mode,
+						"spring.jpa.show-sql=false",
+						"calendar.cache.calendars.maximum-size=0")
+				.run()) {
+			List<Long> employeeIds = seed(context);
+			int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+			LocalDateTime startTime = LocalDateTime.now().plusDays(1).withHour(11).withMinute(0).withSecond(0).withNano(0);
+			String url = "http://localhost:" + port + "/api/meetings/conflicts?startTime=" + startTime
+					+ "&endTime=" + startTime.plusMinutes(30);
+
+			HttpClient client = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(30))
+					.build();
+			AtomicInteger failures = new AtomicInteger();
+			CountDownLatch start = new CountDownLatch(1);
+			List<Thread> clients = new ArrayList<>(CLIENTS);
+			for (int c = 0; c < CLIENTS; c++) {
+				Thread thread = new Thread(() -> {
+					try {
+						start.await();
+						for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+							HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+									.header("Content-Type", "application/json")
+									.POST(HttpRequest.BodyPublishers.ofString(randomParticipants(employeeIds)))
+									.timeout(Duration.ofMinutes(1))
+									.build();
+							if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+								failures.incrementAndGet();
+							}
+						}
+					} catch (Exception e) {
+						failures.incrementAndGet();
+					}
+				});
+				thread.start();
+				clients.add(thread);
+			}
+
+			long began = System.nanoTime();
+			start.countDown();
+			for (Thread thread : clients) {
+				thread.join();
+			}
+			double seconds = (System.nanoTime() - began) / 1e9;
+
+			assertEquals(0, failures.get(), "Every request should succeed in " + mode + " mode");
+			return CLIENTS * REQUESTS_PER_CLIENT / seconds;
+		}
+	}
+
+	private static List<Long> seed(ConfigurableApplicationContext context) {
+		List<Employee> employees = new ArrayList<>(EMPLOYEES);
+		for (int e = 0; e < EMPLOYEES; e++) {
+			employees.add(new Employee("Load " + e));
+		}
+		employees = context.getBean(EmployeeRepository.class).saveAll(employees);
+
+		LocalDateTime day = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+		List<Meeting> meetings = new ArrayList<>(EMPLOYEES * MEETINGS_PER_EMPLOYEE);
+		for (Employee employee : employees) {
+			for (int m = 0; m < MEETINGS_PER_EMPLOYEE; m++) {
+				LocalDateTime startTime = day.plusMinutes(30L * m);
+				meetings.add(new Meeting(startTime, startTime.plusMinutes(15), employee, "Load"));
+			}
+		}
+		context.getBean(MeetingRepository.class).saveAll(meetings);
+		return employees.stream().map(Employee::getId).toList();
+	}
+
+	private static String randomParticipants(List<Long> employeeIds) {
+		StringBuilder body = new StringBuilder("[");
+		for (int p = 0; p < PARTICIPANTS_PER_REQUEST; p++) {
+			if (p > 0) {
+				body.append(',');
+			}
+			body.append(employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size())));
+		}
+		return body.append(']').toString();
+	}
+
+}